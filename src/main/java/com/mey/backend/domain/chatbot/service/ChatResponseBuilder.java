@@ -27,6 +27,8 @@ import java.util.List;
 @Component
 @RequiredArgsConstructor
 public class ChatResponseBuilder {
+
+    public static final int MAX_EXISTING_ROUTES = 5;
     
     private final ConversationManager conversationManager;
     private final MessageTemplateService messageTemplateService;
@@ -117,7 +119,7 @@ public class ChatResponseBuilder {
                                                    ChatContext context) {
         String language = context.getUserLanguage() != null ? context.getUserLanguage() : "ko";
         List<ChatResponse.ExistingRoute> existingRoutes = routes.stream()
-                .limit(5) // 최대 5개 루트만 반환
+                .limit(MAX_EXISTING_ROUTES) // 최대 5개 루트만 반환
                 .map(route -> convertRouteToExistingRoute(route, language))
                 .toList();
         
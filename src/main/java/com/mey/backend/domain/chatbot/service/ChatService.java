@@ -16,6 +16,8 @@ import com.mey.backend.domain.route.repository.RouteRepository;
 import java.util.*;
 import org.springframework.boot.context.event.ApplicationReadyEvent;
 import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
@@ -329,9 +331,10 @@ public class ChatService {
             return 0;
         }
         
-        String themeJson = "\"" + context.getTheme().name() + "\"";
-        log.debug("장소 개수 조회 - 테마: {}, 지역: {}, themeJson: {}", context.getTheme(), context.getRegion(), themeJson);
-        int count = placeRepository.countByThemeAndRegion(themeJson, context.getRegion());
+        // 장소 테마는 "K_POP" 형식으로 저장됨
+        String placeTheme = context.getTheme().getRouteTheme();
+        log.debug("장소 개수 조회 - 테마: {}, 지역: {}", placeTheme, context.getRegion());
+        int count = placeRepository.countByThemeAndRegion(placeTheme, context.getRegion());
         log.debug("장소 개수 조회 결과: {}", count);
         return count;
     }
@@ -371,6 +374,7 @@ public class ChatService {
         try {
             CreateRouteByPlaceIdsRequestDto routeRequest = CreateRouteByPlaceIdsRequestDto.builder()
                     .placeIds(placeIds)
+                    .days(adjustmentResult.adjustedContext().getDays())
                     .build();
             
             RouteCreateResponseDto routeResponse = routeService.createRouteByAI(routeRequest);
@@ -516,24 +520,26 @@ public class ChatService {
      * 컨텍스트와 쿼리를 기반으로 기존 루트를 검색합니다.
      */
     private List<Route> searchExistingRoutes(ChatContext context, String query) {
+        // 응답에 노출되는 개수만큼만 DB에서 조회
+        Pageable topN = PageRequest.of(0, ChatResponseBuilder.MAX_EXISTING_ROUTES);
+
         // 1. 테마와 지역 정보가 있는 경우 우선 검색
         if (context.getTheme() != null && context.getRegion() != null) {
-            String themeJson = "[\"" + context.getTheme().getRouteTheme() + "\"]";
-            return routeRepository.findByThemesAndRegion(themeJson, context.getRegion());
+            return routeRepository.findByThemesAndRegion(context.getTheme(), context.getRegion(), topN);
         }
 
         // 2. 테마만 있는 경우
         if (context.getTheme() != null) {
-            return routeRepository.findByThemesContaining(context.getTheme().getRouteTheme());
+            return routeRepository.findByThemesContaining(context.getTheme(), topN);
         }
 
         // 3. 지역만 있는 경우
         if (context.getRegion() != null) {
-            return routeRepository.findByRegionName(context.getRegion());
+            return routeRepository.findByRegionName(context.getRegion(), topN);
         }
 
         // 4. 정보가 없는 경우 인기 루트 반환
-        return routeRepository.findAllOrderByPopularity();
+        return routeRepository.findAllOrderByPopularity(topN);
     }
     
 }
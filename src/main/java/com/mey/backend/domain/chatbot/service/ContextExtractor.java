@@ -4,6 +4,7 @@ import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.mey.backend.domain.chatbot.dto.ChatContext;
 import com.mey.backend.domain.route.entity.Theme;
+import com.mey.backend.global.util.RequestCoalescer;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.ai.chat.messages.Message;
@@ -39,6 +40,8 @@ public class ContextExtractor {
     
     private final ChatModel chatModel;
     private final ObjectMapper objectMapper;
+    private final RequestCoalescer requestCoalescer;
+    private final LlmModelRouter modelRouter;
     
     /**
      * 사용자 질문에서 전체 컨텍스트를 추출합니다.
@@ -298,13 +301,21 @@ public class ContextExtractor {
      * OpenAI API 호출
      */
     private org.springframework.ai.chat.model.ChatResponse callOpenAi(String userInput, String systemMessage) {
+        String model = modelRouter.selectModel(LlmModelRouter.LlmRoute.CONTEXT_EXTRACTION, systemMessage, userInput);
+        // 동일한 (모델, 시스템 프롬프트, 사용자 메시지) 요청이 동시에 들어오면 한 번만 호출
+        String key = RequestCoalescer.key("chat", model, systemMessage, userInput);
+        return requestCoalescer.execute(key, () -> modelRouter.callChat(
+                LlmModelRouter.LlmRoute.CONTEXT_EXTRACTION, model, () -> doCallOpenAi(model, userInput, systemMessage)));
+    }
+
+    private org.springframework.ai.chat.model.ChatResponse doCallOpenAi(String model, String userInput, String systemMessage) {
         List<Message> messages = Arrays.asList(
                 new SystemMessage(systemMessage),
                 new UserMessage(userInput)
         );
 
         ChatOptions chatOptions = ChatOptions.builder()
-                .model("gpt-4o-mini")
+                .model(model)
                 .build();
 
         Prompt prompt = Prompt.builder()
@@ -1,7 +1,12 @@
 package com.mey.backend.domain.chatbot.service;
 
+import com.mey.backend.global.util.RequestCoalescer;
 import lombok.RequiredArgsConstructor;
+import org.springframework.ai.document.Document;
 import org.springframework.ai.document.MetadataMode;
+import org.springframework.ai.embedding.EmbeddingModel;
+import org.springframework.ai.embedding.EmbeddingRequest;
+import org.springframework.ai.embedding.EmbeddingResponse;
 import org.springframework.ai.openai.OpenAiEmbeddingModel;
 import org.springframework.ai.openai.OpenAiEmbeddingOptions;
 import org.springframework.ai.openai.api.OpenAiApi;
@@ -11,31 +16,62 @@ import org.springframework.stereotype.Service;
 @Service
 @RequiredArgsConstructor
 public class EmbeddingService {
+    private static final String EMBEDDING_MODEL = "text-embedding-3-small";
+
     private final OpenAiApi openAiApi;
+    private final RequestCoalescer requestCoalescer;
 
-    private OpenAiEmbeddingModel embeddingModel;
+    private EmbeddingModel embeddingModel;
 
     /**
      * OpenAI 임베딩 모델을 가져옵니다.
      * 처음 호출 시에만 모델을 생성하고, 이후에는 캐시된 인스턴스를 반환합니다.
+     * 동일한 입력에 대한 동시 임베딩 요청은 한 번의 API 호출로 합쳐집니다.
      *
-     * @return OpenAiEmbeddingModel 인스턴스
+     * @return EmbeddingModel 인스턴스
      */
-    public OpenAiEmbeddingModel getEmbeddingModel() {
+    public EmbeddingModel getEmbeddingModel() {
         if (embeddingModel == null) {
             synchronized (this) {
                 if (embeddingModel == null) {
-                    embeddingModel = new OpenAiEmbeddingModel(
+                    OpenAiEmbeddingModel openAiEmbeddingModel = new OpenAiEmbeddingModel(
                             openAiApi,
                             MetadataMode.EMBED,
                             OpenAiEmbeddingOptions.builder()
-                                    .model("text-embedding-3-small")
+                                    .model(EMBEDDING_MODEL)
                                     .build(),
                             RetryUtils.DEFAULT_RETRY_TEMPLATE
                     );
+                    embeddingModel = new CoalescingEmbeddingModel(openAiEmbeddingModel, requestCoalescer);
                 }
             }
         }
         return embeddingModel;
     }
+
+    /**
+     * 동일한 임베딩 입력이 동시에 요청될 때 진행 중인 호출을 공유하는 EmbeddingModel 래퍼
+     */
+    private record CoalescingEmbeddingModel(EmbeddingModel delegate, RequestCoalescer requestCoalescer)
+            implements EmbeddingModel {
+
+        @Override
+        public EmbeddingResponse call(EmbeddingRequest request) {
+            String model = request.getOptions() != null && request.getOptions().getModel() != null
+                    ? request.getOptions().getModel()
+                    : EMBEDDING_MODEL;
+            String key = RequestCoalescer.key("embedding", model, String.join("\u0000", request.getInstructions()));
+            return requestCoalescer.execute(key, () -> delegate.call(request));
+        }
+
+        @Override
+        public float[] embed(Document document) {
+            return delegate.embed(document);
+        }
+
+        @Override
+        public int dimensions() {
+            return delegate.dimensions();
+        }
+    }
 }
@@ -3,6 +3,7 @@ package com.mey.backend.domain.chatbot.service;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.mey.backend.domain.chatbot.dto.IntentClassificationResult;
+import com.mey.backend.global.util.RequestCoalescer;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.ai.chat.messages.Message;
@@ -34,6 +35,8 @@ public class IntentClassifier {
     
     private final ChatModel chatModel;
     private final ObjectMapper objectMapper;
+    private final RequestCoalescer requestCoalescer;
+    private final LlmModelRouter modelRouter;
     
     /**
      * 사용자 질문의 의도를 분류합니다.
@@ -210,13 +213,21 @@ public class IntentClassifier {
      * OpenAI API 호출
      */
     private org.springframework.ai.chat.model.ChatResponse callOpenAi(String userInput, String systemMessage) {
+        String model = modelRouter.selectModel(LlmModelRouter.LlmRoute.INTENT_CLASSIFICATION, systemMessage, userInput);
+        // 동일한 (모델, 시스템 프롬프트, 사용자 메시지) 요청이 동시에 들어오면 한 번만 호출
+        String key = RequestCoalescer.key("chat", model, systemMessage, userInput);
+        return requestCoalescer.execute(key, () -> modelRouter.callChat(
+                LlmModelRouter.LlmRoute.INTENT_CLASSIFICATION, model, () -> doCallOpenAi(model, userInput, systemMessage)));
+    }
+
+    private org.springframework.ai.chat.model.ChatResponse doCallOpenAi(String model, String userInput, String systemMessage) {
         List<Message> messages = Arrays.asList(
                 new SystemMessage(systemMessage),
                 new UserMessage(userInput)
         );
 
         ChatOptions chatOptions = ChatOptions.builder()
-                .model("gpt-4o-mini")
+                .model(model)
                 .build();
 
         Prompt prompt = Prompt.builder()
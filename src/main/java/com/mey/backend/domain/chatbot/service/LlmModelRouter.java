@@ -0,0 +1,328 @@
+package com.mey.backend.domain.chatbot.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.ai.chat.metadata.Usage;
+import org.springframework.ai.chat.model.ChatResponse;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.env.Environment;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * LLM 호출 지점별 모델 선택을 담당하는 클래스
+ *
+ * 주요 책임:
+ * - 호출 지점(route)별 설정 오버라이드 적용 (chatbot.llm.routes.{route})
+ * - 입력 토큰 수와 요구 출력 형식(JSON)에 따른 모델 선택
+ * - 짧은 분류 요청은 관측된 p95 지연이 가장 낮은 빠른 모델로 라우팅
+ * - 모델별 지연/토큰/비용 메트릭 기록
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class LlmModelRouter {
+
+    /**
+     * p95 계산 전 최소 관측 수 (이보다 적으면 먼저 관측 대상으로 선택)
+     */
+    private static final int MIN_SAMPLES = 20;
+    private static final int WINDOW_SIZE = 256;
+
+    /**
+     * 관측 부족 모델을 먼저 선택하는 최대 횟수 (호출이 끝나지 않거나 기록되지 않아도 탐색이 끝나도록)
+     */
+    private static final int MAX_EXPLORATIONS = MIN_SAMPLES * 2;
+
+    @Getter
+    public enum LlmRoute {
+        INTENT_CLASSIFICATION("intent-classification", true, true),
+        CONTEXT_EXTRACTION("context-extraction", true, false),
+        RAG_ANSWER("rag-answer", false, false),
+        ROUTE_SEQUENCE("route-sequence", false, false);
+
+        private final String key;
+        private final boolean requiresJson;  // JSON 형식 응답 필요 여부
+        private final boolean trivial;       // 짧은 분류성 요청 여부
+
+        LlmRoute(String key, boolean requiresJson, boolean trivial) {
+            this.key = key;
+            this.requiresJson = requiresJson;
+            this.trivial = trivial;
+        }
+    }
+
+    private final MeterRegistry meterRegistry;
+    private final Environment environment;
+    private final PromptAssembler promptAssembler;
+
+    @Value("${chatbot.llm.default-model:gpt-4o-mini}")
+    private String defaultModel;
+
+    @Value("${chatbot.llm.fast-models:gpt-4.1-nano,gpt-4o-mini}")
+    private List<String> fastModels;
+
+    @Value("${chatbot.llm.large-context-model:gpt-4.1-mini}")
+    private String largeContextModel;
+
+    @Value("${chatbot.llm.json-capable-models:gpt-4o-mini,gpt-4o,gpt-4.1-mini,gpt-4.1-nano}")
+    private List<String> jsonCapableModels;
+
+    @Value("${chatbot.llm.trivial-input-tokens:400}")
+    private int trivialInputTokens;
+
+    @Value("${chatbot.llm.large-input-tokens:6000}")
+    private int largeInputTokens;
+
+    // 실패한 호출은 이 값(ms) 이상의 지연으로 기록해 p95에 반영
+    @Value("${chatbot.llm.failure-penalty-ms:10000}")
+    private long failurePenaltyMillis;
+
+    // 연속 실패가 이 횟수에 도달하면 cooldown 동안 빠른 모델 후보에서 제외
+    @Value("${chatbot.llm.failure-threshold:3}")
+    private int failureThreshold;
+
+    @Value("${chatbot.llm.failure-cooldown-ms:60000}")
+    private long failureCooldownMillis;
+
+    // p95 최저 모델이 정해진 뒤에도 이 비율로 다른 후보를 선택해 지연 관측을 갱신
+    @Value("${chatbot.llm.reexplore-ratio:0.05}")
+    private double reexploreRatio;
+
+    // "모델:입력단가:출력단가" (USD / 1M tokens), 쉼표 구분
+    @Value("${chatbot.llm.pricing:gpt-4o-mini:0.15:0.60,gpt-4.1-nano:0.10:0.40,gpt-4.1-mini:0.40:1.60,gpt-4o:2.50:10.00}")
+    private String pricingSpec;
+
+    private final Map<String, double[]> pricing = new HashMap<>();
+    private final Map<String, LatencyWindow> latencies = new ConcurrentHashMap<>();
+
+    @PostConstruct
+    void init() {
+        for (String entry : pricingSpec.split(",")) {
+            String[] parts = entry.trim().split(":");
+            if (parts.length == 3) {
+                pricing.put(parts[0], new double[]{Double.parseDouble(parts[1]), Double.parseDouble(parts[2])});
+            }
+        }
+    }
+
+    /**
+     * 호출 지점과 입력을 기준으로 사용할 모델을 선택합니다.
+     *
+     * @param route 호출 지점
+     * @param inputs 시스템 프롬프트, 사용자 메시지 등 입력 텍스트
+     * @return 모델명
+     */
+    public String selectModel(LlmRoute route, String... inputs) {
+        String override = environment.getProperty("chatbot.llm.routes." + route.getKey());
+        if (override != null && !override.isBlank()) {
+            return override.trim();
+        }
+
+        int inputTokens = Arrays.stream(inputs).mapToInt(promptAssembler::countTokens).sum();
+
+        String selected;
+        if (inputTokens >= largeInputTokens) {
+            selected = largeContextModel;
+        } else if (route.isTrivial() && inputTokens <= trivialInputTokens) {
+            selected = fastestModel(route);
+        } else {
+            selected = defaultModel;
+        }
+
+        if (route.isRequiresJson() && !jsonCapableModels.contains(selected)) {
+            selected = defaultModel;
+        }
+
+        log.debug("LLM 모델 선택 - route: {}, 입력 토큰: {}, 모델: {}", route.getKey(), inputTokens, selected);
+        return selected;
+    }
+
+    /**
+     * Spring AI ChatResponse 호출을 실행하고 지연/토큰 사용량을 기록합니다.
+     */
+    public ChatResponse callChat(LlmRoute route, String model, Supplier<ChatResponse> call) {
+        ChatResponse response = invoke(route, model, call);
+        if (response != null && response.getMetadata() != null) {
+            Usage usage = response.getMetadata().getUsage();
+            if (usage != null) {
+                recordUsage(route, model,
+                        usage.getPromptTokens() != null ? usage.getPromptTokens() : 0,
+                        usage.getCompletionTokens() != null ? usage.getCompletionTokens() : 0);
+            }
+        }
+        return response;
+    }
+
+    /**
+     * LLM 호출을 실행하고 모델별 지연을 기록합니다.
+     */
+    public <T> T invoke(LlmRoute route, String model, Supplier<T> call) {
+        long start = System.nanoTime();
+        boolean success = false;
+        try {
+            T result = call.get();
+            success = true;
+            return result;
+        } finally {
+            long elapsedNanos = System.nanoTime() - start;
+            Timer.builder("chatbot.llm.latency")
+                    .tag("model", model)
+                    .tag("route", route.getKey())
+                    .tag("outcome", success ? "success" : "error")
+                    .publishPercentiles(0.5, 0.95)
+                    .register(meterRegistry)
+                    .record(elapsedNanos, TimeUnit.NANOSECONDS);
+            long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(elapsedNanos);
+            if (success) {
+                latencyWindow(model).recordSuccess(elapsedMillis);
+            } else {
+                // 실패도 관측으로 남겨야 계속 실패하는 모델이 "관측 부족"으로 계속 선택되지 않음
+                latencyWindow(model).recordFailure(Math.max(elapsedMillis, failurePenaltyMillis),
+                        failureThreshold, failureCooldownMillis);
+            }
+        }
+    }
+
+    /**
+     * 토큰 사용량과 추정 비용(USD)을 기록합니다.
+     */
+    public void recordUsage(LlmRoute route, String model, int promptTokens, int completionTokens) {
+        Counter.builder("chatbot.llm.tokens").tag("model", model).tag("route", route.getKey()).tag("type", "prompt")
+                .register(meterRegistry).increment(promptTokens);
+        Counter.builder("chatbot.llm.tokens").tag("model", model).tag("route", route.getKey()).tag("type", "completion")
+                .register(meterRegistry).increment(completionTokens);
+
+        double[] price = pricing.get(model);
+        if (price != null) {
+            double cost = (promptTokens * price[0] + completionTokens * price[1]) / 1_000_000.0;
+            Counter.builder("chatbot.llm.cost").baseUnit("usd").tag("model", model).tag("route", route.getKey())
+                    .register(meterRegistry).increment(cost);
+        }
+    }
+
+    /**
+     * 관측된 p95 지연(ms), 관측 수가 부족하면 -1
+     */
+    public long observedP95Millis(String model) {
+        LatencyWindow window = latencies.get(model);
+        return window != null ? window.p95() : -1;
+    }
+
+    private String fastestModel(LlmRoute route) {
+        long now = System.currentTimeMillis();
+        List<String> candidates = new ArrayList<>();
+        for (String model : fastModels) {
+            if (route.isRequiresJson() && !jsonCapableModels.contains(model)) {
+                continue;
+            }
+            if (latencyWindow(model).inCooldown(now)) {
+                continue; // 연속 실패한 모델은 잠시 제외
+            }
+            candidates.add(model);
+        }
+
+        String best = null;
+        long bestP95 = Long.MAX_VALUE;
+        for (String model : candidates) {
+            LatencyWindow window = latencyWindow(model);
+            long p95 = window.p95();
+            if (p95 < 0) {
+                // 아직 관측이 부족한 모델은 먼저 사용해 지연을 측정 (최대 MAX_EXPLORATIONS회)
+                if (window.tryExplore()) {
+                    return model;
+                }
+                continue;
+            }
+            if (p95 < bestP95) {
+                bestP95 = p95;
+                best = model;
+            }
+        }
+        if (best == null) {
+            return defaultModel;
+        }
+
+        // 가끔 다른 후보도 선택해 지연 관측이 오래된 값으로 고정되지 않도록 함
+        if (candidates.size() > 1 && ThreadLocalRandom.current().nextDouble() < reexploreRatio) {
+            List<String> others = new ArrayList<>(candidates);
+            others.remove(best);
+            return others.get(ThreadLocalRandom.current().nextInt(others.size()));
+        }
+        return best;
+    }
+
+    private LatencyWindow latencyWindow(String model) {
+        return latencies.computeIfAbsent(model, m -> {
+            LatencyWindow window = new LatencyWindow();
+            Gauge.builder("chatbot.llm.observed.p95", window, LatencyWindow::p95)
+                    .tag("model", m)
+                    .baseUnit("milliseconds")
+                    .register(meterRegistry);
+            return window;
+        });
+    }
+
+    /**
+     * 최근 N개 호출 지연을 보관하는 고정 크기 링 버퍼 (연속 실패 cooldown, 탐색 횟수 포함)
+     */
+    private static final class LatencyWindow {
+        private final long[] samples = new long[WINDOW_SIZE];
+        private int next;
+        private int size;
+        private int explorations;
+        private int consecutiveFailures;
+        private long cooldownUntilMillis;
+
+        synchronized void recordSuccess(long millis) {
+            add(millis);
+            consecutiveFailures = 0;
+        }
+
+        synchronized void recordFailure(long penaltyMillis, int threshold, long cooldownMillis) {
+            add(penaltyMillis);
+            if (++consecutiveFailures >= threshold) {
+                cooldownUntilMillis = System.currentTimeMillis() + cooldownMillis;
+                consecutiveFailures = 0;
+            }
+        }
+
+        synchronized boolean inCooldown(long nowMillis) {
+            return nowMillis < cooldownUntilMillis;
+        }
+
+        synchronized boolean tryExplore() {
+            return explorations++ < MAX_EXPLORATIONS;
+        }
+
+        private void add(long millis) {
+            samples[next] = millis;
+            next = (next + 1) % samples.length;
+            size = Math.min(size + 1, samples.length);
+        }
+
+        synchronized long p95() {
+            if (size < MIN_SAMPLES) {
+                return -1;
+            }
+            long[] copy = Arrays.copyOf(samples, size);
+            Arrays.sort(copy);
+            return copy[(int) Math.ceil(size * 0.95) - 1];
+        }
+    }
+}
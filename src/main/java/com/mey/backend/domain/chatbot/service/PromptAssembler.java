@@ -0,0 +1,344 @@
+package com.mey.backend.domain.chatbot.service;
+
+import com.knuddels.jtokkit.Encodings;
+import com.knuddels.jtokkit.api.Encoding;
+import com.knuddels.jtokkit.api.EncodingResult;
+import com.knuddels.jtokkit.api.EncodingType;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * RAG 시스템 프롬프트 조립을 담당하는 클래스
+ *
+ * 주요 책임:
+ * - 언어별 고정 지시문을 프롬프트 맨 앞에 배치 (업스트림 prefix 캐시 활용)
+ * - 검색된 문서의 공백 정리, 중복 제거
+ * - 의도별 토큰 예산에 맞춰 문서를 잘라 컨텍스트 구성 (로컬 토크나이저 사용)
+ * - 언어별로 렌더링된 고정 지시문 캐싱
+ *
+ * 변하는 컨텍스트는 항상 고정 지시문 뒤에 붙기 때문에
+ * 같은 언어/의도의 요청은 동일한 프롬프트 prefix를 공유합니다.
+ */
+@Slf4j
+@Component
+public class PromptAssembler {
+
+    /**
+     * 잘린 문서라도 넣을 가치가 있는 최소 토큰 수
+     */
+    private static final int MIN_PARTIAL_DOCUMENT_TOKENS = 64;
+
+    public enum PromptType {
+        ROUTE_RECOMMENDATION,       // 기존 루트 검색 응답
+        PLACE_ROUTE_RECOMMENDATION, // 생성된 루트의 장소 기반 추천
+        KNOWLEDGE_QA                // 일반 질문 (출처 번호 포함)
+    }
+
+    /**
+     * 조립된 시스템 프롬프트
+     *
+     * @param systemText 고정 지시문 + 컨텍스트
+     * @param includedIndexes 컨텍스트에 포함된 원본 문서 인덱스 (출처 번호 순서)
+     * @param contextTokens 컨텍스트 부분의 토큰 수
+     */
+    public record AssembledPrompt(String systemText, List<Integer> includedIndexes, int contextTokens) {}
+
+    private final Encoding encoding = Encodings.newLazyEncodingRegistry().getEncoding(EncodingType.O200K_BASE);
+    private final Map<String, String> staticPrefixCache = new ConcurrentHashMap<>();
+
+    @Value("${chatbot.prompt.token-budget.route-recommendation:1500}")
+    private int routeRecommendationBudget;
+
+    @Value("${chatbot.prompt.token-budget.place-route-recommendation:2500}")
+    private int placeRouteRecommendationBudget;
+
+    @Value("${chatbot.prompt.token-budget.knowledge-qa:2000}")
+    private int knowledgeQaBudget;
+
+    /**
+     * 고정 지시문 뒤에 예산 내의 문서들을 붙여 시스템 프롬프트를 만듭니다.
+     *
+     * @param type 프롬프트 종류 (의도)
+     * @param language 사용자 언어
+     * @param documents 관련도 순으로 정렬된 문서 내용
+     */
+    public AssembledPrompt assemble(PromptType type, String language, List<String> documents) {
+        String lang = language != null ? language : "ko";
+        String prefix = staticPrefixCache.computeIfAbsent(type.name() + ":" + lang, k -> renderStaticPrefix(type, lang));
+
+        int budget = budgetOf(type);
+        int usedTokens = 0;
+        List<Integer> included = new ArrayList<>();
+        List<String> normalizedIncluded = new ArrayList<>();
+        Set<String> seen = new HashSet<>();
+        StringBuilder context = new StringBuilder();
+        boolean budgetCut = false; // 예산 때문에 문서가 잘리거나 빠졌는지
+
+        int i = 0;
+        for (; i < documents.size() && usedTokens < budget; i++) {
+            String doc = normalize(documents.get(i));
+            if (doc.isEmpty() || !seen.add(doc) || isContainedInAny(doc, normalizedIncluded)) {
+                continue;
+            }
+
+            String entry = type == PromptType.KNOWLEDGE_QA
+                    ? "[" + (included.size() + 1) + "] " + doc
+                    : doc;
+            int separatorTokens = context.length() > 0 ? 1 : 0;
+            int entryTokens = encoding.countTokens(entry);
+            int remaining = budget - usedTokens - separatorTokens;
+
+            if (entryTokens > remaining) {
+                budgetCut = true;
+                if (remaining < MIN_PARTIAL_DOCUMENT_TOKENS) {
+                    break;
+                }
+                entry = truncateToTokens(entry, remaining);
+                entryTokens = remaining;
+            }
+
+            if (context.length() > 0) {
+                context.append("\n\n");
+            }
+            context.append(entry);
+            usedTokens += entryTokens + separatorTokens;
+            included.add(i);
+            normalizedIncluded.add(doc);
+        }
+        budgetCut |= i < documents.size();
+
+        if (budgetCut && type == PromptType.PLACE_ROUTE_RECOMMENDATION) {
+            // 장소 목록이 잘렸는데 "제공된 순서대로 방문" 지시만 남으면 모델이 일부 장소를 전체 루트로 오해함
+            log.info("장소 기반 추천 프롬프트 토큰 예산 초과 - 장소 {}/{}개만 포함 (예산 {})",
+                    included.size(), documents.size(), budget);
+            context.append("\n\n").append(omittedPlacesNote(lang));
+        }
+
+        log.debug("프롬프트 조립 - 유형: {}, 언어: {}, 문서: {}/{}, 컨텍스트 토큰: {}/{}",
+                type, lang, included.size(), documents.size(), usedTokens, budget);
+
+        return new AssembledPrompt(prefix + context, included, usedTokens);
+    }
+
+    /**
+     * 장소 목록이 토큰 예산으로 일부 생략되었음을 알리는 문장
+     */
+    private String omittedPlacesNote(String language) {
+        return switch (language) {
+            case "en" -> "(Note: the later places of this route were shortened or omitted for length. "
+                    + "The route continues after the places above; do not present the list as complete.)";
+            case "ja" -> "（注: 長さの制限により、このルートの後半の場所は省略または短縮されています。"
+                    + "上記の場所の後もルートは続くため、全体のルートとして紹介しないでください。）";
+            case "zh" -> "（注意：由于长度限制，此路线后面的地点已被省略或缩短。"
+                    + "路线在上述地点之后仍继续，请不要将其作为完整路线介绍。）";
+            default -> "(참고: 길이 제한으로 이 루트의 뒤쪽 장소는 생략되거나 줄여졌습니다. "
+                    + "위 장소 이후에도 루트가 이어지므로 전체 루트인 것처럼 소개하지 마세요.)";
+        };
+    }
+
+    /**
+     * 로컬 토크나이저로 토큰 수를 셉니다.
+     */
+    public int countTokens(String text) {
+        return text == null || text.isEmpty() ? 0 : encoding.countTokens(text);
+    }
+
+    private int budgetOf(PromptType type) {
+        return switch (type) {
+            case ROUTE_RECOMMENDATION -> routeRecommendationBudget;
+            case PLACE_ROUTE_RECOMMENDATION -> placeRouteRecommendationBudget;
+            case KNOWLEDGE_QA -> knowledgeQaBudget;
+        };
+    }
+
+    private String truncateToTokens(String text, int maxTokens) {
+        EncodingResult result = encoding.encode(text, maxTokens);
+        String truncated = encoding.decode(result.getTokens());
+        // 멀티바이트 문자 중간에서 잘린 경우 깨진 문자 제거
+        int end = truncated.length();
+        while (end > 0 && truncated.charAt(end - 1) == '\uFFFD') {
+            end--;
+        }
+        return truncated.substring(0, end).stripTrailing() + "…";
+    }
+
+    /**
+     * 앞뒤 공백 제거, 줄 끝 공백 및 연속 빈 줄 정리
+     */
+    private String normalize(String doc) {
+        if (doc == null) {
+            return "";
+        }
+        return doc.strip()
+                .replaceAll("[ \\t]+\\n", "\n")
+                .replaceAll("\\n{3,}", "\n\n");
+    }
+
+    /**
+     * 청크가 겹치는 경우 이미 포함된 문서에 통째로 들어있는 문서는 제외
+     */
+    private boolean isContainedInAny(String doc, List<String> includedDocs) {
+        for (String included : includedDocs) {
+            if (included.length() > doc.length() && included.contains(doc)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private String renderStaticPrefix(PromptType type, String language) {
+        return switch (type) {
+            case ROUTE_RECOMMENDATION -> getRouteRecommendationSystemPrompt(language);
+            case PLACE_ROUTE_RECOMMENDATION -> getPlaceBasedRouteRecommendationSystemPrompt(language);
+            case KNOWLEDGE_QA -> getKnowledgeQaSystemPrompt();
+        };
+    }
+
+    /**
+     * 지식 기반 Q&A 시스템 프롬프트 (한국어 단일)
+     */
+    private String getKnowledgeQaSystemPrompt() {
+        return """
+            당신은 지식 기반 Q&A 시스템입니다.
+            사용자의 질문에 대한 답변을 다음 정보를 바탕으로 생성해주세요.
+            주어진 정보에 답이 없다면 모른다고 솔직히 말해주세요.
+            답변 마지막에 사용한 정보의 출처 번호 [1], [2] 등을 반드시 포함해주세요.
+
+            정보:
+            """;
+    }
+
+    /**
+     * 언어별 루트 추천 시스템 프롬프트를 반환합니다.
+     */
+    private String getRouteRecommendationSystemPrompt(String language) {
+        return switch (language) {
+            case "ko" -> """
+                당신은 친근하고 전문적인 한류 여행 가이드입니다.
+                사용자의 질문에 대해 주어진 루트 정보를 바탕으로 자연스럽고 매력적인 추천을 해주세요.
+
+                다음 원칙을 따라주세요:
+                1. 정보 출처나 참고 번호는 절대 언급하지 마세요
+                2. 자연스럽고 친근한 톤으로 응답하세요
+                3. 루트의 특징과 매력을 강조하세요
+                4. 구체적인 추천 이유를 포함하세요
+                5. 2-3문장으로 간결하게 작성하세요
+
+                루트 정보:
+                """;
+            case "en" -> """
+                You are a friendly and professional Korean Wave travel guide.
+                Please provide natural and attractive recommendations based on the given route information in response to user questions.
+
+                Please follow these principles:
+                1. Never mention information sources or reference numbers
+                2. Respond in a natural and friendly tone
+                3. Emphasize the features and attractions of the route
+                4. Include specific reasons for recommendations
+                5. Write concisely in 2-3 sentences
+
+                Route Information:
+                """;
+            case "ja" -> """
+                あなたは親しみやすく専門的な韓流旅行ガイドです。
+                与えられたルート情報に基づいて、ユーザーの質問に対して自然で魅力的な推薦をしてください。
+
+                以下の原則に従ってください：
+                1. 情報源や参考番号は絶対に言及しないでください
+                2. 自然で親しみやすいトーンで応答してください
+                3. ルートの特徴と魅力を強調してください
+                4. 具体的な推薦理由を含めてください
+                5. 2-3文で簡潔に書いてください
+
+                ルート情報：
+                """;
+            case "zh" -> """
+                您是一位友善且专业的韩流旅行向导。
+                请基于提供的路线信息，对用户的问题给出自然且有吸引力的推荐。
+
+                请遵循以下原则：
+                1. 绝不提及信息来源或参考编号
+                2. 以自然友好的语调回应
+                3. 强调路线的特色和魅力
+                4. 包含具体的推荐理由
+                5. 用2-3句话简洁地写出
+
+                路线信息：
+                """;
+            default -> getRouteRecommendationSystemPrompt("ko");
+        };
+    }
+
+    /**
+     * 언어별 장소 기반 루트 추천 시스템 프롬프트를 반환합니다.
+     */
+    private String getPlaceBasedRouteRecommendationSystemPrompt(String language) {
+        return switch (language) {
+            case "ko" -> """
+                당신은 친근하고 전문적인 한류 여행 가이드입니다.
+                사용자의 질문에 대해 주어진 루트 정보를 바탕으로 자연스럽고 매력적인 추천을 해주세요.
+
+                다음 원칙을 따라주세요:
+                1. 장소들은 제공된 순서대로 방문하는 것이 최적화된 루트입니다
+                2. 여행 일수에 맞게 일차별로 구성하되, 적절한 개수의 대표 장소들을 선별하여 소개해주세요
+                3. 각 장소의 특징과 매력을 간략하게 설명해주세요
+                4. 정보 출처나 참고 번호는 절대 언급하지 마세요
+                5. 자연스럽고 친근한 톤으로 작성해주세요
+                6. 2-3문단 정도의 적절한 길이로 작성해주세요
+
+                루트 정보:
+                """;
+            case "en" -> """
+                You are a friendly and professional Korean Wave travel guide.
+                Please provide natural and attractive recommendations based on the given route information in response to user questions.
+
+                Please follow these principles:
+                1. The places should be visited in the provided order as it's an optimized route
+                2. Organize by daily itinerary according to travel days, selecting appropriate representative places to introduce
+                3. Briefly describe the features and attractions of each place
+                4. Never mention information sources or reference numbers
+                5. Write in a natural and friendly tone
+                6. Write in an appropriate length of 2-3 paragraphs
+
+                Route Information:
+                """;
+            case "ja" -> """
+                あなたは親しみやすく専門的な韓流旅行ガイドです。
+                与えられたルート情報に基づいて、ユーザーの質問に対して自然で魅力的な推薦をしてください。
+
+                以下の原則に従ってください：
+                1. 場所は提供された順序で訪問するのが最適化されたルートです
+                2. 旅行日数に合わせて日別に構成し、適切な数の代表的な場所を選んで紹介してください
+                3. 各場所の特徴と魅力を簡潔に説明してください
+                4. 情報源や参考番号は絶対に言及しないでください
+                5. 自然で親しみやすいトーンで書いてください
+                6. 2-3段落程度の適切な長さで書いてください
+
+                ルート情報：
+                """;
+            case "zh" -> """
+                您是一位友善且专业的韩流旅行向导。
+                请基于提供的路线信息，对用户的问题给出自然且有吸引力的推荐。
+
+                请遵循以下原则：
+                1. 地点应按提供的顺序参观，这是优化的路线
+                2. 根据旅行天数按日安排，选择适当数量的代表性地点介绍
+                3. 简要描述每个地点的特色和魅力
+                4. 绝不提及信息来源或参考编号
+                5. 以自然友好的语调书写
+                6. 以2-3段的适当篇幅书写
+
+                路线信息：
+                """;
+            default -> getPlaceBasedRouteRecommendationSystemPrompt("ko");
+        };
+    }
+}
@@ -3,6 +3,7 @@ package com.mey.backend.domain.chatbot.service;
 import com.mey.backend.domain.chatbot.dto.DocumentSearchResult;
 import com.mey.backend.domain.chatbot.exception.DocumentProcessingException;
 import com.mey.backend.domain.chatbot.repository.InMemoryDocumentVectorStore;
+import com.mey.backend.global.util.RequestCoalescer;
 import java.io.File;
 import java.util.ArrayList;
 import java.util.Arrays;
@@ -10,7 +11,6 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.UUID;
-import java.util.stream.IntStream;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.ai.chat.messages.Message;
@@ -30,6 +30,9 @@ public class RagService {
     private final InMemoryDocumentVectorStore vectorStore;
     private final OpenAiApi openAiApi;
     private final LanguageService languageService;
+    private final RequestCoalescer requestCoalescer;
+    private final LlmModelRouter modelRouter;
+    private final PromptAssembler promptAssembler;
 
     /**
      * 질의와 관련된 문서를 검색합니다.
@@ -66,15 +69,11 @@ public class RagService {
             return getNoResultsMessage(language);
         }
 
-        // 관련 문서의 내용을 컨텍스트로 결합 (번호 없이)
-        String context = relevantDocs.stream()
-                .map(DocumentSearchResult::getContent)
-                .collect(java.util.stream.Collectors.joining("\n\n"));
-        
-        log.debug("컨텍스트 크기: {} 문자", context.length());
-
-        // 언어별 루트 추천 시스템 프롬프트 생성
-        String systemPromptText = String.format(getRouteRecommendationSystemPrompt(language), context);
+        // 고정 지시문 + 토큰 예산 내 문서 컨텍스트 (번호 없이)
+        PromptAssembler.AssembledPrompt assembled = promptAssembler.assemble(
+                PromptAssembler.PromptType.ROUTE_RECOMMENDATION, language,
+                relevantDocs.stream().map(DocumentSearchResult::getContent).toList());
+        String systemPromptText = assembled.systemText();
 
         // LLM을 통한 응답 생성
         try {
@@ -108,25 +107,12 @@ public class RagService {
             return "관련 정보를 찾을 수 없습니다. 다른 질문을 시도하거나 관련 문서를 업로드해 주세요.";
         }
 
-        // 문서 번호 부여 (응답에서 출처 표시를 위해)
-        List<String> numberedDocs = IntStream.range(0, relevantDocs.size())
-                .mapToObj(index -> "[" + (index + 1) + "] " + relevantDocs.get(index).getContent())
-                .toList();
-
-        // 관련 문서의 내용을 컨텍스트로 결합
-        String context = String.join("\n\n", numberedDocs);
-        log.debug("컨텍스트 크기: {} 문자", context.length());
-
-        // 컨텍스트를 포함하는 시스템 프롬프트 생성
-        String systemPromptText = String.format("""
-            당신은 지식 기반 Q&A 시스템입니다. 
-            사용자의 질문에 대한 답변을 다음 정보를 바탕으로 생성해주세요.
-            주어진 정보에 답이 없다면 모른다고 솔직히 말해주세요.
-            답변 마지막에 사용한 정보의 출처 번호 [1], [2] 등을 반드시 포함해주세요.
-            
-            정보:
-            %s
-            """, context);
+        // 고정 지시문 + 토큰 예산 내 문서 컨텍스트 (응답에서 출처 표시를 위해 번호 부여)
+        PromptAssembler.AssembledPrompt assembled = promptAssembler.assemble(
+                PromptAssembler.PromptType.KNOWLEDGE_QA, "ko",
+                relevantDocs.stream().map(DocumentSearchResult::getContent).toList());
+        String systemPromptText = assembled.systemText();
+        List<Integer> includedIndexes = assembled.includedIndexes();
 
         // LLM을 통한 응답 생성
         try {
@@ -140,8 +126,8 @@ public class RagService {
             // 참고 문서 정보 추가
             StringBuilder sourceInfo = new StringBuilder();
             sourceInfo.append("\n\n참고 문서:");
-            for (int i = 0; i < relevantDocs.size(); i++) {
-                DocumentSearchResult doc = relevantDocs.get(i);
+            for (int i = 0; i < includedIndexes.size(); i++) {
+                DocumentSearchResult doc = relevantDocs.get(includedIndexes.get(i));
                 String originalFilename = doc.getMetadata().getOrDefault("originalFilename", "Unknown file").toString();
                 sourceInfo.append("\n[").append(i + 1).append("] ").append(originalFilename);
             }
@@ -161,13 +147,21 @@ public class RagService {
     }
 
     private ChatResponse callOpenAi(String userInput, String systemMessage) {
+        String model = modelRouter.selectModel(LlmModelRouter.LlmRoute.RAG_ANSWER, systemMessage, userInput);
+        // 동일한 (모델, 시스템 프롬프트, 사용자 메시지) 요청이 동시에 들어오면 한 번만 호출
+        String key = RequestCoalescer.key("chat", model, systemMessage, userInput);
+        return requestCoalescer.execute(key, () -> modelRouter.callChat(
+                LlmModelRouter.LlmRoute.RAG_ANSWER, model, () -> doCallOpenAi(model, userInput, systemMessage)));
+    }
+
+    private ChatResponse doCallOpenAi(String model, String userInput, String systemMessage) {
         List<Message> messages = Arrays.asList(
                 new SystemMessage(systemMessage),
                 new UserMessage(userInput)
         );
 
         ChatOptions chatOptions = ChatOptions.builder()
-                .model("gpt-4o-mini")
+                .model(model)
                 .build();
 
         Prompt prompt = Prompt.builder()
@@ -252,15 +246,13 @@ public class RagService {
             return getNoResultsMessage(language);
         }
 
-        // 장소 정보를 순서대로 정렬하고 언어별 컨텍스트 생성
-        String context = places.stream()
+        // 장소 정보를 순서대로 정렬하고 언어별 컨텍스트 생성 (고정 지시문 뒤에 토큰 예산 내로 배치)
+        List<String> placeContexts = places.stream()
                 .map(place -> createPlaceContext(place, language))
-                .collect(java.util.stream.Collectors.joining("\n"));
-        
-        log.debug("컨텍스트 크기: {} 문자, 장소 수: {}", context.length(), places.size());
-
-        // 언어별 루트 추천 시스템 프롬프트 생성
-        String systemPromptText = String.format(getPlaceBasedRouteRecommendationSystemPrompt(language), context);
+                .toList();
+        PromptAssembler.AssembledPrompt assembled = promptAssembler.assemble(
+                PromptAssembler.PromptType.PLACE_ROUTE_RECOMMENDATION, language, placeContexts);
+        String systemPromptText = assembled.systemText();
 
         // LLM을 통한 응답 생성
         try {
@@ -398,145 +390,5 @@ public class RagService {
             default -> getSystemErrorMessage("ko");
         };
     }
-    
-    /**
-     * 언어별 루트 추천 시스템 프롬프트를 반환합니다.
-     */
-    private String getRouteRecommendationSystemPrompt(String language) {
-        if (language == null) {
-            language = "ko";
-        }
-        return switch (language) {
-            case "ko" -> """
-                당신은 친근하고 전문적인 한류 여행 가이드입니다. 
-                사용자의 질문에 대해 주어진 루트 정보를 바탕으로 자연스럽고 매력적인 추천을 해주세요.
-                
-                다음 원칙을 따라주세요:
-                1. 정보 출처나 참고 번호는 절대 언급하지 마세요
-                2. 자연스럽고 친근한 톤으로 응답하세요
-                3. 루트의 특징과 매력을 강조하세요
-                4. 구체적인 추천 이유를 포함하세요
-                5. 2-3문장으로 간결하게 작성하세요
-                
-                루트 정보:
-                %s
-                """;
-            case "en" -> """
-                You are a friendly and professional Korean Wave travel guide.
-                Please provide natural and attractive recommendations based on the given route information in response to user questions.
-                
-                Please follow these principles:
-                1. Never mention information sources or reference numbers
-                2. Respond in a natural and friendly tone
-                3. Emphasize the features and attractions of the route
-                4. Include specific reasons for recommendations
-                5. Write concisely in 2-3 sentences
-                
-                Route Information:
-                %s
-                """;
-            case "ja" -> """
-                あなたは親しみやすく専門的な韓流旅行ガイドです。
-                与えられたルート情報に基づいて、ユーザーの質問に対して自然で魅力的な推薦をしてください。
-                
-                以下の原則に従ってください：
-                1. 情報源や参考番号は絶対に言及しないでください
-                2. 自然で親しみやすいトーンで応答してください
-                3. ルートの特徴と魅力を強調してください
-                4. 具体的な推薦理由を含めてください
-                5. 2-3文で簡潔に書いてください
-                
-                ルート情報：
-                %s
-                """;
-            case "zh" -> """
-                您是一位友善且专业的韩流旅行向导。
-                请基于提供的路线信息，对用户的问题给出自然且有吸引力的推荐。
-                
-                请遵循以下原则：
-                1. 绝不提及信息来源或参考编号
-                2. 以自然友好的语调回应
-                3. 强调路线的特色和魅力
-                4. 包含具体的推荐理由
-                5. 用2-3句话简洁地写出
-                
-                路线信息：
-                %s
-                """;
-            default -> getRouteRecommendationSystemPrompt("ko");
-        };
-    }
-    
-    /**
-     * 언어별 장소 기반 루트 추천 시스템 프롬프트를 반환합니다.
-     */
-    private String getPlaceBasedRouteRecommendationSystemPrompt(String language) {
-        if (language == null) {
-            language = "ko";
-        }
-        return switch (language) {
-            case "ko" -> """
-                당신은 친근하고 전문적인 한류 여행 가이드입니다.
-                사용자의 질문에 대해 주어진 루트 정보를 바탕으로 자연스럽고 매력적인 추천을 해주세요.
-
-                다음 원칙을 따라주세요:
-                1. 장소들은 제공된 순서대로 방문하는 것이 최적화된 루트입니다
-                2. 여행 일수에 맞게 일차별로 구성하되, 적절한 개수의 대표 장소들을 선별하여 소개해주세요
-                3. 각 장소의 특징과 매력을 간략하게 설명해주세요
-                4. 정보 출처나 참고 번호는 절대 언급하지 마세요
-                5. 자연스럽고 친근한 톤으로 작성해주세요
-                6. 2-3문단 정도의 적절한 길이로 작성해주세요
-
-                루트 정보:
-                %s
-                """;
-            case "en" -> """
-                You are a friendly and professional Korean Wave travel guide.
-                Please provide natural and attractive recommendations based on the given route information in response to user questions.
-
-                Please follow these principles:
-                1. The places should be visited in the provided order as it's an optimized route
-                2. Organize by daily itinerary according to travel days, selecting appropriate representative places to introduce
-                3. Briefly describe the features and attractions of each place
-                4. Never mention information sources or reference numbers
-                5. Write in a natural and friendly tone
-                6. Write in an appropriate length of 2-3 paragraphs
-
-                Route Information:
-                %s
-                """;
-            case "ja" -> """
-                あなたは親しみやすく専門的な韓流旅行ガイドです。
-                与えられたルート情報に基づいて、ユーザーの質問に対して自然で魅力的な推薦をしてください。
-
-                以下の原則に従ってください：
-                1. 場所は提供された順序で訪問するのが最適化されたルートです
-                2. 旅行日数に合わせて日別に構成し、適切な数の代表的な場所を選んで紹介してください
-                3. 各場所の特徴と魅力を簡潔に説明してください
-                4. 情報源や参考番号は絶対に言及しないでください
-                5. 自然で親しみやすいトーンで書いてください
-                6. 2-3段落程度の適切な長さで書いてください
-
-                ルート情報：
-                %s
-                """;
-            case "zh" -> """
-                您是一位友善且专业的韩流旅行向导。
-                请基于提供的路线信息，对用户的问题给出自然且有吸引力的推荐。
-
-                请遵循以下原则：
-                1. 地点应按提供的顺序参观，这是优化的路线
-                2. 根据旅行天数按日安排，选择适当数量的代表性地点介绍
-                3. 简要描述每个地点的特色和魅力
-                4. 绝不提及信息来源或参考编号
-                5. 以自然友好的语调书写
-                6. 以2-3段的适当篇幅书写
-
-                路线信息：
-                %s
-                """;
-            default -> getPlaceBasedRouteRecommendationSystemPrompt("ko");
-        };
-    }
 
 }
@@ -6,8 +6,10 @@ import jakarta.persistence.*;
 import lombok.*;
 import org.hibernate.annotations.JdbcTypeCode;
 import org.hibernate.type.SqlTypes;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 @Entity
 @Table(name = "places")
@@ -88,6 +90,15 @@ public class Place extends BaseTimeEntity {
     @Column(nullable = false, columnDefinition = "json")
     private List<String> themes;
 
+    // themes의 정규화 사본 (테마 필터 조회용 인덱스, themes 변경 시 함께 갱신)
+    @Builder.Default
+    @ElementCollection
+    @CollectionTable(name = "place_themes",
+            joinColumns = @JoinColumn(name = "place_id"),
+            indexes = @Index(name = "idx_place_themes_theme_place", columnList = "theme, place_id"))
+    @Column(name = "theme", nullable = false, length = 50)
+    private Set<String> themeTags = new HashSet<>();
+
     private String costInfoKo;
 
     private String costInfoEn;
@@ -95,4 +106,17 @@ public class Place extends BaseTimeEntity {
     private String costInfoJp;
 
     private String costInfoCh;
+
+    public void setThemes(List<String> themes) {
+        this.themes = themes;
+        syncThemeTags();
+    }
+
+    @PrePersist
+    public void syncThemeTags() {
+        themeTags.clear();
+        if (themes != null) {
+            themeTags.addAll(themes);
+        }
+    }
 }
@@ -2,17 +2,31 @@ package com.mey.backend.domain.place.repository;
 
 import com.mey.backend.domain.place.entity.Place;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
 
 public interface PlaceRepository extends JpaRepository<Place, Long> {
 
     List<Place> findByNameKoContainingIgnoreCaseOrNameEnContainingIgnoreCase(String nameKo, String nameEn);
 
-    @Query(value = "SELECT * FROM places WHERE JSON_CONTAINS(themes, JSON_QUOTE(:keyword), '$') LIMIT :limit", nativeQuery = true)
+    // 지역까지 함께 조회 (트랜잭션 밖에서 지역 정보를 사용할 때)
+    @EntityGraph(attributePaths = "region")
+    @Query("SELECT p FROM Place p WHERE p.placeId IN :placeIds")
+    List<Place> findAllWithRegionByPlaceIdIn(@Param("placeIds") Collection<Long> placeIds);
+
+    // place_themes 인덱스(theme, place_id)로 조회
+    @Query(value = """
+            SELECT p.* FROM place_themes pt
+            JOIN places p ON p.place_id = pt.place_id
+            WHERE pt.theme = :keyword
+            ORDER BY pt.place_id ASC
+            LIMIT :limit
+            """, nativeQuery = true)
     List<Place> findByThemeKeywordWithLimit(@Param("keyword") String keyword, @Param("limit") int limit);
 
     // JPQL의 MOD 함수로 홀수 placeId만 필터링
@@ -20,7 +34,16 @@ public interface PlaceRepository extends JpaRepository<Place, Long> {
     List<Place> findOddIdPlaces(Pageable pageable);
 
     Place findPlaceByPlaceId(Long placeId);
-    @Query(value = "SELECT COUNT(*) FROM places p JOIN regions r ON p.region_id = r.region_id WHERE JSON_CONTAINS(p.themes, :themeJson) AND r.name_ko = :regionName", nativeQuery = true)
-    int countByThemeAndRegion(@Param("themeJson") String themeJson, @Param("regionName") String regionName);
+    @Query(value = """
+            SELECT COUNT(*) FROM place_themes pt
+            JOIN places p ON p.place_id = pt.place_id
+            JOIN regions r ON p.region_id = r.region_id
+            WHERE pt.theme = :theme AND r.name_ko = :regionName
+            """, nativeQuery = true)
+    int countByThemeAndRegion(@Param("theme") String theme, @Param("regionName") String regionName);
+
+    // 정규화 테마가 비어 있는 장소 (백필 대상, placeId 키셋)
+    @Query("SELECT p FROM Place p WHERE p.themeTags IS EMPTY AND p.placeId > :afterId ORDER BY p.placeId ASC")
+    List<Place> findWithoutThemeTags(@Param("afterId") long afterId, Pageable pageable);
 }
 
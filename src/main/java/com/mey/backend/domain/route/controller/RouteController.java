@@ -3,13 +3,16 @@ package com.mey.backend.domain.route.controller;
 import com.mey.backend.domain.route.dto.*;
 import com.mey.backend.domain.route.entity.Theme;
 import com.mey.backend.domain.route.service.RouteService;
+import com.mey.backend.domain.route.service.StartRouteStreamer;
 import com.mey.backend.global.payload.CommonResponse;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
 import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.MediaType;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import java.time.LocalDate;
 import java.time.LocalTime;
@@ -22,6 +25,7 @@ import java.util.List;
 public class RouteController {
 
     private final RouteService routeService;
+    private final StartRouteStreamer startRouteStreamer;
 
     @Operation(
             summary = "루트 생성 (테스트 전용)",
@@ -46,18 +50,50 @@ public class RouteController {
 
     @Operation(
             summary = "루트 시작",
-            description = "현재 위치와 루트 ID를 받아 현재 → 1번째, i번째 → i+1번째 구간의 단계별 길찾기 정보를 반환합니다."
+            description = "현재 위치와 루트 ID를 받아 현재 → 1번째, i번째 → i+1번째 구간의 단계별 길찾기 정보를 반환합니다. "
+                    + "polylineFormat=ENCODED이면 폴리라인을 Google encoded polyline 문자열(encodedPolyline)로 반환하고, "
+                    + "tolerance(미터) 또는 zoom을 지정하면 Douglas-Peucker로 좌표를 단순화합니다."
     )
     @PostMapping("/{route_id}/start")
     public CommonResponse<StartRouteResponse> startRoute(
             @PathVariable("route_id") Long routeId,
             @RequestParam double latitude,
-            @RequestParam double longitude
+            @RequestParam double longitude,
+            @RequestParam(defaultValue = "POINTS") StartRouteResponse.PolylineFormat polylineFormat,
+            @RequestParam(required = false) Double tolerance,
+            @RequestParam(required = false) Integer zoom
     ) {
-        StartRouteResponse response = routeService.startRoute(routeId, latitude, longitude);
+        PolylineOptions polylineOptions = PolylineOptions.builder()
+                .format(polylineFormat)
+                .toleranceMeters(tolerance)
+                .zoom(zoom)
+                .build();
+        StartRouteResponse response = routeService.startRoute(routeId, latitude, longitude, polylineOptions);
         return CommonResponse.onSuccess(response);
     }
 
+    @Operation(
+            summary = "루트 시작 (스트리밍)",
+            description = "루트 시작과 같은 구간을 SSE로 전송합니다. 현재 위치 → 1번째 구간부터 준비되는 대로 순서대로 "
+                    + "\"segment\" 이벤트(index, total, segment)를 보내고, 마지막에 \"complete\" 이벤트를 보냅니다."
+    )
+    @PostMapping(value = "/{route_id}/start/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter startRouteStream(
+            @PathVariable("route_id") Long routeId,
+            @RequestParam double latitude,
+            @RequestParam double longitude,
+            @RequestParam(defaultValue = "POINTS") StartRouteResponse.PolylineFormat polylineFormat,
+            @RequestParam(required = false) Double tolerance,
+            @RequestParam(required = false) Integer zoom
+    ) {
+        PolylineOptions polylineOptions = PolylineOptions.builder()
+                .format(polylineFormat)
+                .toleranceMeters(tolerance)
+                .zoom(zoom)
+                .build();
+        return startRouteStreamer.stream(routeId, latitude, longitude, polylineOptions);
+    }
+
     @Operation(
             summary = "추천 루트 조회",
             description = "추천 루트들을 조회한 결과를 반환합니다."
@@ -65,9 +101,10 @@ public class RouteController {
     public CommonResponse<RouteRecommendListResponseDto> getRecommendedRoutes(
             @RequestParam(required = false) Theme theme,
             @RequestParam(defaultValue = "20") int limit,
-            @RequestParam(defaultValue = "0") int offset) {
+            @RequestParam(defaultValue = "0") int offset,
+            @RequestParam(required = false) Long cursor) { // 이전 응답의 nextCursor (지정 시 키셋 페이지네이션)
 
-        RouteRecommendListResponseDto response = routeService.getRecommendedRoutes(theme, limit, offset);
+        RouteRecommendListResponseDto response = routeService.getRecommendedRoutes(theme, limit, offset, cursor);
         return CommonResponse.onSuccess(response);
     }
 
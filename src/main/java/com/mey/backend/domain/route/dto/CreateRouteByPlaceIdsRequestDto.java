@@ -1,5 +1,7 @@
 package com.mey.backend.domain.route.dto;
 
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.NotEmpty;
 import lombok.*;
 
@@ -13,4 +15,9 @@ import java.util.List;
 public class CreateRouteByPlaceIdsRequestDto {
     @NotEmpty
     private List<Long> placeIds;
+
+    // 여행 일수 (2 이상이면 일자별로 나눠 순서 계산)
+    @Min(1)
+    @Max(15)
+    private Integer days;
 }
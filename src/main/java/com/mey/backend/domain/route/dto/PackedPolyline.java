@@ -0,0 +1,130 @@
+package com.mey.backend.domain.route.dto;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * 위경도 좌표열을 [lat0, lng0, lat1, lng1, ...] 형태의 double 배열 하나로 보관하는 폴리라인
+ *
+ * 좌표마다 객체를 만들지 않고, JSON 직렬화 시점에만 기존과 같은 [{"lat":..,"lng":..}, ...] 형태로 씁니다.
+ */
+@JsonSerialize(using = PackedPolyline.Serializer.class)
+@JsonDeserialize(using = PackedPolyline.Deserializer.class)
+public final class PackedPolyline {
+
+    public static final PackedPolyline EMPTY = new PackedPolyline(new double[0], 0);
+
+    private final double[] coords;
+    private final int size;
+
+    private PackedPolyline(double[] coords, int size) {
+        this.coords = coords;
+        this.size = size;
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public double lat(int i) {
+        return coords[i << 1];
+    }
+
+    public double lng(int i) {
+        return coords[(i << 1) + 1];
+    }
+
+    public List<LatLngDto> toLatLngList() {
+        List<LatLngDto> list = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            list.add(LatLngDto.builder().lat(lat(i)).lng(lng(i)).build());
+        }
+        return list;
+    }
+
+    public static final class Builder {
+        private double[] coords = new double[64];
+        private int size;
+
+        public Builder append(double lat, double lng) {
+            int index = size << 1;
+            if (index + 2 > coords.length) {
+                coords = Arrays.copyOf(coords, coords.length << 1);
+            }
+            coords[index] = lat;
+            coords[index + 1] = lng;
+            size++;
+            return this;
+        }
+
+        public int size() {
+            return size;
+        }
+
+        public PackedPolyline build() {
+            return size == 0 ? EMPTY : new PackedPolyline(Arrays.copyOf(coords, size << 1), size);
+        }
+    }
+
+    static final class Serializer extends JsonSerializer<PackedPolyline> {
+        @Override
+        public void serialize(PackedPolyline value, JsonGenerator gen, SerializerProvider serializers) throws IOException {
+            gen.writeStartArray();
+            for (int i = 0; i < value.size; i++) {
+                gen.writeStartObject();
+                gen.writeNumberField("lat", value.lat(i));
+                gen.writeNumberField("lng", value.lng(i));
+                gen.writeEndObject();
+            }
+            gen.writeEndArray();
+        }
+    }
+
+    static final class Deserializer extends JsonDeserializer<PackedPolyline> {
+        @Override
+        public PackedPolyline deserialize(JsonParser p, DeserializationContext ctxt) throws IOException {
+            if (p.currentToken() != JsonToken.START_ARRAY) {
+                p.skipChildren();
+                return EMPTY;
+            }
+            Builder builder = builder();
+            while (p.nextToken() == JsonToken.START_OBJECT) {
+                double lat = 0;
+                double lng = 0;
+                while (p.nextToken() == JsonToken.FIELD_NAME) {
+                    String field = p.currentName();
+                    p.nextToken();
+                    if ("lat".equals(field)) {
+                        lat = p.getValueAsDouble();
+                    } else if ("lng".equals(field)) {
+                        lng = p.getValueAsDouble();
+                    } else {
+                        p.skipChildren();
+                    }
+                }
+                builder.append(lat, lng);
+            }
+            return builder.build();
+        }
+    }
+}
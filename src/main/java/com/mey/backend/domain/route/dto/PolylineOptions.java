@@ -0,0 +1,21 @@
+package com.mey.backend.domain.route.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * 루트 시작 응답의 폴리라인 형식/단순화 옵션
+ *
+ * toleranceMeters가 있으면 그 값으로, 없고 zoom이 있으면 해당 줌 레벨의 1픽셀 크기로 Douglas-Peucker 단순화를 적용합니다.
+ */
+@Getter
+@Builder
+public class PolylineOptions {
+
+    public static final PolylineOptions DEFAULT = PolylineOptions.builder().build();
+
+    @Builder.Default
+    private StartRouteResponse.PolylineFormat format = StartRouteResponse.PolylineFormat.POINTS;
+    private Double toleranceMeters;
+    private Integer zoom;
+}
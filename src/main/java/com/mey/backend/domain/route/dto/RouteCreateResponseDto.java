@@ -58,4 +58,7 @@ public class RouteCreateResponseDto {
 
     // placeId 순서 (추후 확장 고려)
     private List<Long> orderedPlaceIds;
+
+    // orderedPlaceIds와 같은 위치의 일차 (1부터 시작)
+    private List<Integer> dayNumbers;
 }
\ No newline at end of file
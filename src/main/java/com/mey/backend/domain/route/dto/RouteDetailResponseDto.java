@@ -33,10 +33,12 @@ public class RouteDetailResponseDto {
     @AllArgsConstructor
     public static class RoutePlaceDto {
         private Integer sequenceOrder;
+        private Integer dayNumber;
         private PlaceDto place;
         private Integer recommendedDurationMinutes;
         private LocalTime estimatedArrivalTime;
         private LocalTime estimatedDepartureTime;
+        private Boolean openAtArrival; // 영업시간 안에 방문 가능한지 여부
         private String notes;
     }
 
@@ -14,5 +14,6 @@ import java.util.List;
 public class RouteRecommendListResponseDto {
     
     private List<RouteRecommendResponseDto> routes;
-    private Integer totalCount;
+    private Integer totalCount;   // cursor 요청에서는 개수 조회를 생략하므로 null
+    private Long nextCursor;      // 다음 페이지 요청 시 cursor로 전달, 마지막 페이지면 null
 }
\ No newline at end of file
@@ -9,7 +9,7 @@ import lombok.NoArgsConstructor;
 import java.util.List;
 
 @Getter
-@Builder
+@Builder(toBuilder = true)
 @NoArgsConstructor
 @AllArgsConstructor
 public class RouteRecommendResponseDto {
@@ -27,4 +27,11 @@ public class RouteRecommendResponseDto {
     private String descriptionEn; // 설명 (영문)
 
     private List<Theme> themes;   // 테마 리스트
+
+    // JPQL 생성자 프로젝션용 (테마는 별도 조회 후 toBuilder로 채움)
+    public RouteRecommendResponseDto(Long id, String imageUrl, String titleKo, String titleEn,
+                                     String regionNameKo, String regionNameEn,
+                                     String descriptionKo, String descriptionEn) {
+        this(id, imageUrl, titleKo, titleEn, regionNameKo, regionNameEn, descriptionKo, descriptionEn, null);
+    }
 }
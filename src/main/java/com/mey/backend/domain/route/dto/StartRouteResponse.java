@@ -8,5 +8,14 @@ import java.util.List;
 @Getter
 @Builder
 public class StartRouteResponse {
+
+    /**
+     * 단계별 폴리라인 응답 형식
+     * - POINTS: polyline에 [{lat, lng}, ...] 좌표 배열
+     * - ENCODED: encodedPolyline에 Google encoded polyline 문자열 (정밀도 1e-5), polyline은 null
+     */
+    public enum PolylineFormat { POINTS, ENCODED }
+
+    private PolylineFormat polylineFormat;
     private List<TransitSegmentDto> segments;
-}
\ No newline at end of file
+}
@@ -0,0 +1,16 @@
+package com.mey.backend.domain.route.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * 루트 시작 스트리밍 응답의 구간 이벤트
+ */
+@Getter
+@Builder
+public class StartRouteSegmentEvent {
+    private int index;                                    // 0 = 현재 위치 → 첫 장소
+    private int total;                                    // 전체 구간 수
+    private StartRouteResponse.PolylineFormat polylineFormat;
+    private TransitSegmentDto segment;
+}
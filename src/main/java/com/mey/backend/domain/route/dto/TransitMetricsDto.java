@@ -11,4 +11,5 @@ public class TransitMetricsDto {
     private int distanceMeters;   // 구간 총 거리
     private int durationSeconds;  // 구간 총 소요시간
     private int fare;             // 구간 요금
+    private boolean estimated;    // API 실패 등으로 직선거리 기반 추정값인지 여부
 }
\ No newline at end of file
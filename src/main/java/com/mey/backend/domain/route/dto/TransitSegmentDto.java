@@ -25,6 +25,7 @@ public class TransitSegmentDto {
     private Integer durationSeconds;      // 이 구간 총 소요(더미)
     private Integer fare;                 // 이 구간 요금(더미)
     private String summary;               // "도보 5분 → 버스 3정거장 → 도보 2분" 같은 짧은 요약
+    private boolean estimated;            // API 실패 등으로 직선거리 기반 추정 구간인지 여부
 
     // 단계별 안내(도보/버스/지하철 등)
     private List<TransitStepDto> steps;
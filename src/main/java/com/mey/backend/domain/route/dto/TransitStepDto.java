@@ -1,9 +1,10 @@
 package com.mey.backend.domain.route.dto;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
+import io.swagger.v3.oas.annotations.media.ArraySchema;
+import io.swagger.v3.oas.annotations.media.Schema;
 import lombok.*;
 
-import java.util.List;
-
 @Getter
 @Setter
 @NoArgsConstructor
@@ -23,6 +24,11 @@ public class TransitStepDto {
     private String headsign;           // 행선지 (예: "강남역 방면")
     private Integer numStops;          // 정거장 수
 
-    // 지도를 위한 간단 폴리라인(위경도 배열) — 더미
-    private List<LatLngDto> polyline;
+    // 지도를 위한 간단 폴리라인(위경도 배열), JSON에서는 [{lat, lng}, ...] 형태
+    @ArraySchema(schema = @Schema(implementation = LatLngDto.class))
+    private PackedPolyline polyline;
+
+    // 인코딩 응답 형식일 때만: Google encoded polyline 문자열
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private String encodedPolyline;
 }
@@ -0,0 +1,43 @@
+package com.mey.backend.domain.route.entity;
+
+import com.mey.backend.domain.common.entity.BaseTimeEntity;
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * 인기 루트의 장소 간 대중교통 구간 (시간대별 미리 계산한 TransitSegmentDto JSON)
+ */
+@Entity
+@Table(name = "precomputed_segment",
+        uniqueConstraints = @UniqueConstraint(
+                name = "uk_precomputed_segment_from_to_bucket",
+                columnNames = {"from_place_id", "to_place_id", "time_bucket"}))
+@Getter
+@Setter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor(access = AccessLevel.PROTECTED)
+@Builder
+public class PrecomputedSegment extends BaseTimeEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "from_place_id", nullable = false)
+    private Long fromPlaceId;
+
+    @Column(name = "to_place_id", nullable = false)
+    private Long toPlaceId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "time_bucket", nullable = false, length = 20)
+    private TimeBucket timeBucket;
+
+    @Column(nullable = false, columnDefinition = "LONGTEXT")
+    private String segmentJson;
+
+    @Column(nullable = false)
+    private LocalDateTime fetchedAt;
+}
@@ -7,10 +7,15 @@ import lombok.*;
 import org.hibernate.annotations.JdbcTypeCode;
 import org.hibernate.type.SqlTypes;
 
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 
 @Entity
-@Table(name = "routes")
+@Table(name = "routes", indexes = {
+        @Index(name = "idx_routes_route_type_id", columnList = "route_type, id"),
+        @Index(name = "idx_routes_total_cost_id", columnList = "total_cost, id")
+}, uniqueConstraints = @UniqueConstraint(name = "uk_routes_fingerprint", columnNames = "fingerprint"))
 @Getter
 @Setter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
@@ -54,7 +59,34 @@ public class Route extends BaseTimeEntity {
     @Column(nullable = false, columnDefinition = "json")
     private List<Theme> themes;
 
+    // themes의 정규화 사본 (테마 필터 조회용 인덱스, themes 변경 시 함께 갱신)
+    @Builder.Default
+    @ElementCollection
+    @CollectionTable(name = "route_themes",
+            joinColumns = @JoinColumn(name = "route_id"),
+            indexes = @Index(name = "idx_route_themes_theme_route", columnList = "theme, route_id"))
+    @Enumerated(EnumType.STRING)
+    @Column(name = "theme", nullable = false, length = 30)
+    private Set<Theme> themeTags = new HashSet<>();
+
     @Enumerated(EnumType.STRING)
     @Column(nullable = false)
     private RouteType routeType;
+
+    // AI 루트 중복 판별용 지문 (정렬된 placeId + 일수 + 계획 버전의 SHA-256, 그 외 루트는 null)
+    @Column(length = 64)
+    private String fingerprint;
+
+    public void setThemes(List<Theme> themes) {
+        this.themes = themes;
+        syncThemeTags();
+    }
+
+    @PrePersist
+    public void syncThemeTags() {
+        themeTags.clear();
+        if (themes != null) {
+            themeTags.addAll(themes);
+        }
+    }
 }
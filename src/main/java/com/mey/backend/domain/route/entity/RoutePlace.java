@@ -44,11 +44,16 @@ public class RoutePlace extends BaseTimeEntity {
     @Column(columnDefinition = "TEXT")
     private String notes;
 
+    // 다일 일정의 일차 (1부터 시작)
+    @Column
+    private Integer dayNumber;
+
     @Builder
-    public RoutePlace(Route route, Place place, Integer visitOrder, Integer recommendDurationMinutes) {
+    public RoutePlace(Route route, Place place, Integer visitOrder, Integer recommendDurationMinutes, Integer dayNumber) {
         this.route = route;
         this.place = place;
         this.visitOrder = visitOrder;
         this.recommendDurationMinutes = recommendDurationMinutes;
+        this.dayNumber = dayNumber;
     }
 }
\ No newline at end of file
@@ -0,0 +1,43 @@
+package com.mey.backend.domain.route.entity;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+
+/**
+ * 대중교통 소요시간이 달라지는 시간대 구분
+ */
+@Getter
+@AllArgsConstructor
+public enum TimeBucket {
+    MORNING_PEAK(7, 10, 8),     // 출근 시간대
+    DAYTIME(10, 17, 13),
+    EVENING_PEAK(17, 20, 18),   // 퇴근 시간대
+    NIGHT(20, 7, 22);
+
+    private final int startHour;          // 포함
+    private final int endHour;            // 미포함
+    private final int representativeHour; // 갱신 시 조회 기준 시각
+
+    public static TimeBucket of(LocalDateTime departureTime) {
+        LocalTime time = departureTime != null ? departureTime.toLocalTime() : LocalTime.now();
+        int hour = time.getHour();
+        for (TimeBucket bucket : values()) {
+            if (bucket.startHour < bucket.endHour
+                    ? hour >= bucket.startHour && hour < bucket.endHour
+                    : hour >= bucket.startHour || hour < bucket.endHour) {
+                return bucket;
+            }
+        }
+        return DAYTIME;
+    }
+
+    // 지금 이후 가장 가까운 대표 시각
+    public LocalDateTime nextRepresentativeTime() {
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime candidate = now.toLocalDate().atTime(representativeHour, 0);
+        return candidate.isAfter(now) ? candidate : candidate.plusDays(1);
+    }
+}
@@ -0,0 +1,49 @@
+package com.mey.backend.domain.route.entity;
+
+import com.mey.backend.domain.common.entity.BaseTimeEntity;
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * 장소 간 대중교통 이동 지표 (출발 장소, 도착 장소, 시간대 단위)
+ */
+@Entity
+@Table(name = "travel_matrix",
+        uniqueConstraints = @UniqueConstraint(
+                name = "uk_travel_matrix_from_to_bucket",
+                columnNames = {"from_place_id", "to_place_id", "time_bucket"}))
+@Getter
+@Setter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor(access = AccessLevel.PROTECTED)
+@Builder
+public class TravelMatrixEntry extends BaseTimeEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "from_place_id", nullable = false)
+    private Long fromPlaceId;
+
+    @Column(name = "to_place_id", nullable = false)
+    private Long toPlaceId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "time_bucket", nullable = false, length = 20)
+    private TimeBucket timeBucket;
+
+    @Column(nullable = false)
+    private int distanceMeters;
+
+    @Column(nullable = false)
+    private int durationSeconds;
+
+    @Column(nullable = false)
+    private int fare;
+
+    @Column(nullable = false)
+    private LocalDateTime fetchedAt;
+}
@@ -0,0 +1,21 @@
+package com.mey.backend.domain.route.repository;
+
+import com.mey.backend.domain.route.entity.PrecomputedSegment;
+import com.mey.backend.domain.route.entity.TimeBucket;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface PrecomputedSegmentRepository extends JpaRepository<PrecomputedSegment, Long> {
+
+    Optional<PrecomputedSegment> findByFromPlaceIdAndToPlaceIdAndTimeBucket(Long fromPlaceId, Long toPlaceId, TimeBucket timeBucket);
+
+    List<PrecomputedSegment> findByTimeBucketAndFromPlaceIdIn(TimeBucket timeBucket, Collection<Long> fromPlaceIds);
+
+    long deleteByFetchedAtBefore(LocalDateTime fetchedAt);
+}
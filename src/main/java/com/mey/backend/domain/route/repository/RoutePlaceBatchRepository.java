@@ -0,0 +1,17 @@
+package com.mey.backend.domain.route.repository;
+
+import com.mey.backend.domain.route.entity.RoutePlace;
+
+import java.util.List;
+
+/**
+ * RoutePlace 대량 저장용 Spring Data 커스텀 조각
+ */
+public interface RoutePlaceBatchRepository {
+
+    /**
+     * JDBC 배치 INSERT로 한 번에 저장합니다. (IDENTITY 키라 Hibernate 배치가 동작하지 않음)
+     * 저장된 행은 영속성 컨텍스트에 올라가지 않으며, route는 이미 저장되어 있어야 합니다.
+     */
+    void insertAll(List<RoutePlace> routePlaces);
+}
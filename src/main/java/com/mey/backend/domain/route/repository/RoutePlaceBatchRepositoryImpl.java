@@ -0,0 +1,43 @@
+package com.mey.backend.domain.route.repository;
+
+import com.mey.backend.domain.route.entity.RoutePlace;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.List;
+
+@RequiredArgsConstructor
+public class RoutePlaceBatchRepositoryImpl implements RoutePlaceBatchRepository {
+
+    private static final String INSERT_SQL = """
+            INSERT INTO route_places
+                (route_id, place_id, visit_order, recommend_duration_minutes, day_number, created_at, updated_at)
+            VALUES (?, ?, ?, ?, ?, ?, ?)
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public void insertAll(List<RoutePlace> routePlaces) {
+        if (routePlaces.isEmpty()) {
+            return;
+        }
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        jdbcTemplate.batchUpdate(INSERT_SQL, routePlaces, routePlaces.size(), (ps, rp) -> {
+            ps.setLong(1, rp.getRoute().getId());
+            ps.setLong(2, rp.getPlace().getPlaceId());
+            ps.setInt(3, rp.getVisitOrder());
+            ps.setInt(4, rp.getRecommendDurationMinutes());
+            if (rp.getDayNumber() != null) {
+                ps.setInt(5, rp.getDayNumber());
+            } else {
+                ps.setNull(5, Types.INTEGER);
+            }
+            ps.setTimestamp(6, now);
+            ps.setTimestamp(7, now);
+        });
+    }
+}
@@ -2,14 +2,18 @@ package com.mey.backend.domain.route.repository;
 
 import com.mey.backend.domain.route.entity.Route;
 import com.mey.backend.domain.route.entity.RoutePlace;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
 
 @Repository
-public interface RoutePlaceRepository extends JpaRepository<RoutePlace, Long> {
+public interface RoutePlaceRepository extends JpaRepository<RoutePlace, Long>, RoutePlaceBatchRepository {
     
     List<RoutePlace> findByRouteOrderByVisitOrder(Route route);
+
+    // 방문 장소를 함께 조회 (장소별 지연 로딩 쿼리 방지)
+    @EntityGraph(attributePaths = "place")
     List<RoutePlace> findByRouteIdOrderByVisitOrder(Long routeId);
 }
\ No newline at end of file
@@ -1,47 +1,131 @@
 package com.mey.backend.domain.route.repository;
 
+import com.mey.backend.domain.route.dto.RouteRecommendResponseDto;
 import com.mey.backend.domain.route.entity.Route;
 import com.mey.backend.domain.route.entity.RouteType;
+import com.mey.backend.domain.route.entity.Theme;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
 public interface RouteRepository extends JpaRepository<Route, Long> {
 
-    // 특정 테마를 포함하는 루트 조회
-    @Query(value = "SELECT * FROM routes r WHERE JSON_CONTAINS(r.themes, JSON_QUOTE(:theme))", nativeQuery = true)
-    List<Route> findByThemesContaining(@Param("theme") String theme);
+    // 특정 테마를 포함하는 루트 조회 (상위 N개, route_themes 인덱스 사용)
+    @Query("SELECT r FROM Route r JOIN r.themeTags t WHERE t = :theme ORDER BY r.id ASC")
+    List<Route> findByThemesContaining(@Param("theme") Theme theme, Pageable pageable);
 
-    // 지역별 루트 조회
-    @Query("SELECT r FROM Route r WHERE r.region.nameKo = :regionName")
-    List<Route> findByRegionName(@Param("regionName") String regionName);
+    // 지역별 루트 조회 (상위 N개)
+    @Query("SELECT r FROM Route r WHERE r.region.nameKo = :regionName ORDER BY r.id ASC")
+    List<Route> findByRegionName(@Param("regionName") String regionName, Pageable pageable);
 
-    // 테마와 지역으로 필터링된 루트 조회
-    @Query(value = "SELECT r.* FROM routes r LEFT JOIN regions reg ON r.region_id = reg.region_id WHERE (:themes IS NULL OR JSON_OVERLAPS(r.themes, CAST(:themes AS JSON))) AND (:regionName IS NULL OR reg.name_ko = :regionName)", nativeQuery = true)
-    List<Route> findByThemesAndRegion(@Param("themes") String themes, @Param("regionName") String regionName);
+    // 테마와 지역으로 필터링된 루트 조회 (상위 N개)
+    @Query("SELECT r FROM Route r JOIN r.themeTags t JOIN r.region reg WHERE t = :theme AND reg.nameKo = :regionName ORDER BY r.id ASC")
+    List<Route> findByThemesAndRegion(@Param("theme") Theme theme, @Param("regionName") String regionName, Pageable pageable);
 
     // 여러 테마 중 하나라도 포함하는 루트 조회
-    @Query(value = "SELECT * FROM routes r WHERE JSON_OVERLAPS(r.themes, CAST(:themes AS JSON))", nativeQuery = true)
-    List<Route> findByThemesContainingAny(@Param("themes") String themes);
+    @Query("SELECT DISTINCT r FROM Route r JOIN r.themeTags t WHERE t IN :themes")
+    List<Route> findByThemesContainingAny(@Param("themes") Collection<Theme> themes);
 
-    // 인기도순 정렬 (비용 기준으로 대체)
-    @Query("SELECT r FROM Route r ORDER BY r.totalCost ASC")
-    List<Route> findAllOrderByPopularity();
+    // 인기도순 정렬 (비용 기준으로 대체, 상위 N개)
+    @Query("SELECT r FROM Route r ORDER BY r.totalCost ASC, r.id ASC")
+    List<Route> findAllOrderByPopularity(Pageable pageable);
 
 
+    // 같은 장소 구성의 기존 AI 루트 조회 (지역 함께 조회)
+    @EntityGraph(attributePaths = "region")
+    Optional<Route> findByFingerprint(String fingerprint);
+
     // POPULAR 전체
     List<Route> findByRouteType(RouteType routeType);
 
-    // POPULAR + theme 조건
+    // POPULAR offset 페이지 ID 조회 (idx_routes_route_type_id)
+    @Query(value = """
+            SELECT id FROM routes
+            WHERE route_type = 'POPULAR'
+            ORDER BY id ASC
+            LIMIT :limit OFFSET :offset
+            """, nativeQuery = true)
+    List<Long> findPopularPageIds(@Param("limit") int limit, @Param("offset") int offset);
 
+    // POPULAR 키셋 페이지 ID 조회 (afterId 다음 행부터)
     @Query(value = """
-            SELECT * FROM routes
+            SELECT id FROM routes
             WHERE route_type = 'POPULAR'
-              AND JSON_CONTAINS(themes, :themeJson)
+              AND id > :afterId
             ORDER BY id ASC
+            LIMIT :limit
+            """, nativeQuery = true)
+    List<Long> findPopularPageIdsAfter(@Param("afterId") long afterId, @Param("limit") int limit);
+
+    // POPULAR + theme offset 페이지 ID 조회 (idx_route_themes_theme_route 범위 스캔, route_id 순)
+    @Query(value = """
+            SELECT rt.route_id FROM route_themes rt
+            JOIN routes r ON r.id = rt.route_id
+            WHERE rt.theme = :theme
+              AND r.route_type = 'POPULAR'
+            ORDER BY rt.route_id ASC
+            LIMIT :limit OFFSET :offset
+            """, nativeQuery = true)
+    List<Long> findPopularPageIdsByTheme(@Param("theme") String theme,
+                                         @Param("limit") int limit,
+                                         @Param("offset") int offset);
+
+    // POPULAR + theme 키셋 페이지 ID 조회 (afterId 다음 행부터)
+    @Query(value = """
+            SELECT rt.route_id FROM route_themes rt
+            JOIN routes r ON r.id = rt.route_id
+            WHERE rt.theme = :theme
+              AND r.route_type = 'POPULAR'
+              AND rt.route_id > :afterId
+            ORDER BY rt.route_id ASC
+            LIMIT :limit
+            """, nativeQuery = true)
+    List<Long> findPopularPageIdsByThemeAfter(@Param("theme") String theme,
+                                              @Param("afterId") long afterId,
+                                              @Param("limit") int limit);
+
+    // 추천 목록 DTO 프로젝션 (지역명까지 조인 한 번으로 조회, 순서는 보장하지 않음)
+    // JSON themes 컬럼은 생성자 인자 타입 매칭에 의존하지 않도록 findThemesByIdIn으로 따로 조회
+    @Query("""
+            SELECT new com.mey.backend.domain.route.dto.RouteRecommendResponseDto(
+                r.id, r.imageUrl, r.titleKo, r.titleEn, reg.nameKo, reg.nameEn,
+                r.descriptionKo, r.descriptionEn)
+            FROM Route r LEFT JOIN r.region reg
+            WHERE r.id IN :ids
+            """)
+    List<RouteRecommendResponseDto> findRecommendDtosByIdIn(@Param("ids") Collection<Long> ids);
+
+    // 루트별 테마 (추천 목록 DTO에 채워 넣는 용도, 순서는 보장하지 않음)
+    @Query("SELECT r.id AS id, r.themes AS themes FROM Route r WHERE r.id IN :ids")
+    List<RouteThemes> findThemesByIdIn(@Param("ids") Collection<Long> ids);
+
+    interface RouteThemes {
+        Long getId();
+
+        List<Theme> getThemes();
+    }
+
+    // POPULAR 전체 개수
+    @Query(value = "SELECT COUNT(*) FROM routes WHERE route_type = 'POPULAR'", nativeQuery = true)
+    long countPopular();
+
+    // POPULAR + theme 전체 개수
+    @Query(value = """
+            SELECT COUNT(*) FROM route_themes rt
+            JOIN routes r ON r.id = rt.route_id
+            WHERE rt.theme = :theme
+              AND r.route_type = 'POPULAR'
             """, nativeQuery = true)
-    List<Route> findPopularByThemes(@Param("themeJson") String themeJson);
+    long countPopularByTheme(@Param("theme") String theme);
+
+    // 정규화 테마가 비어 있는 루트 (백필 대상, id 키셋)
+    @Query("SELECT r FROM Route r WHERE r.themeTags IS EMPTY AND r.id > :afterId ORDER BY r.id ASC")
+    List<Route> findWithoutThemeTags(@Param("afterId") long afterId, Pageable pageable);
 
 }
\ No newline at end of file
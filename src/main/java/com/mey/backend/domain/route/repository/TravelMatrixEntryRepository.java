@@ -0,0 +1,14 @@
+package com.mey.backend.domain.route.repository;
+
+import com.mey.backend.domain.route.entity.TimeBucket;
+import com.mey.backend.domain.route.entity.TravelMatrixEntry;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.Optional;
+
+@Repository
+public interface TravelMatrixEntryRepository extends JpaRepository<TravelMatrixEntry, Long> {
+
+    Optional<TravelMatrixEntry> findByFromPlaceIdAndToPlaceIdAndTimeBucket(Long fromPlaceId, Long toPlaceId, TimeBucket timeBucket);
+}
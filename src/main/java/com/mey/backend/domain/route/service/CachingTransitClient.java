@@ -0,0 +1,204 @@
+package com.mey.backend.domain.route.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.mey.backend.domain.route.dto.TransitMetricsDto;
+import com.mey.backend.domain.route.dto.TransitSegmentDto;
+import com.mey.backend.domain.route.entity.TimeBucket;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 구간 조회 결과(TransitSegmentDto)를 캐시하는 TransitClient 데코레이터
+ *
+ * - 키: 출발/도착 좌표를 약 cell-meters 크기 격자로 양자화한 값 + 출발 시간대
+ * - 메모리: 최대 max-entries개 LRU, ttl 경과 시 만료
+ * - 디스크(선택): disk-dir 지정 시 JSON 파일로 한 단계 더 보관 (재기동 후에도 재사용)
+ * - 추정값(도보 폴백)은 캐시하지 않음
+ * - metrics()는 같은 키의 구간이 캐시에 있으면 외부 호출 없이 합계를 반환
+ */
+@Slf4j
+public class CachingTransitClient implements TransitClient {
+
+    private static final double METERS_PER_DEGREE_LAT = 111_320.0;
+
+    private final TransitClient delegate;
+    private final ObjectMapper objectMapper;
+    private final int maxEntries;
+    private final Duration ttl;
+    private final double cellMeters;
+    private final Path diskDir; // null이면 디스크 캐시 사용 안 함
+
+    private final Map<String, CachedSegment> memory;
+    private final Counter memoryHits;
+    private final Counter diskHits;
+    private final Counter misses;
+
+    public CachingTransitClient(TransitClient delegate, ObjectMapper objectMapper, MeterRegistry meterRegistry,
+                                int maxEntries, Duration ttl, double cellMeters, Path diskDir) {
+        this.delegate = delegate;
+        this.objectMapper = objectMapper;
+        this.maxEntries = maxEntries;
+        this.ttl = ttl;
+        this.cellMeters = cellMeters;
+        this.diskDir = diskDir;
+        this.memory = new LinkedHashMap<>(256, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, CachedSegment> eldest) {
+                return size() > CachingTransitClient.this.maxEntries;
+            }
+        };
+        this.memoryHits = Counter.builder("route.transit.cache").tag("result", "memory_hit").register(meterRegistry);
+        this.diskHits = Counter.builder("route.transit.cache").tag("result", "disk_hit").register(meterRegistry);
+        this.misses = Counter.builder("route.transit.cache").tag("result", "miss").register(meterRegistry);
+
+        if (diskDir != null) {
+            try {
+                Files.createDirectories(diskDir);
+            } catch (IOException e) {
+                log.warn("구간 디스크 캐시 디렉터리 생성 실패: {}", e.getMessage());
+            }
+        }
+    }
+
+    @Override
+    public TransitSegmentDto route(String fromName, double fromLat, double fromLng,
+                                   String toName, double toLat, double toLng,
+                                   LocalDateTime departureTime) {
+        String key = key(fromLat, fromLng, toLat, toLng, departureTime);
+        TransitSegmentDto cached = lookup(key);
+        if (cached != null) {
+            return withEndpoints(cached, fromName, fromLat, fromLng, toName, toLat, toLng);
+        }
+
+        misses.increment();
+        TransitSegmentDto segment = delegate.route(fromName, fromLat, fromLng, toName, toLat, toLng, departureTime);
+        if (segment != null && !segment.isEstimated()) {
+            store(key, segment);
+        }
+        return segment;
+    }
+
+    @Override
+    public TransitMetricsDto metrics(double fromLat, double fromLng, double toLat, double toLng,
+                                     LocalDateTime departureTime) {
+        TransitSegmentDto cached = lookup(key(fromLat, fromLng, toLat, toLng, departureTime));
+        if (cached != null) {
+            return TransitMetricsDto.builder()
+                    .distanceMeters(cached.getDistanceMeters() != null ? cached.getDistanceMeters() : 0)
+                    .durationSeconds(cached.getDurationSeconds() != null ? cached.getDurationSeconds() : 0)
+                    .fare(cached.getFare() != null ? cached.getFare() : 0)
+                    .build();
+        }
+        return delegate.metrics(fromLat, fromLng, toLat, toLng, departureTime);
+    }
+
+    private TransitSegmentDto lookup(String key) {
+        Instant now = Instant.now();
+        synchronized (memory) {
+            CachedSegment entry = memory.get(key);
+            if (entry != null) {
+                if (entry.expiresAt().isAfter(now)) {
+                    memoryHits.increment();
+                    return entry.segment();
+                }
+                memory.remove(key);
+            }
+        }
+
+        TransitSegmentDto fromDisk = readDisk(key, now);
+        if (fromDisk != null) {
+            diskHits.increment();
+            synchronized (memory) {
+                memory.put(key, new CachedSegment(fromDisk, now.plus(ttl)));
+            }
+        }
+        return fromDisk;
+    }
+
+    private void store(String key, TransitSegmentDto segment) {
+        synchronized (memory) {
+            memory.put(key, new CachedSegment(segment, Instant.now().plus(ttl)));
+        }
+        writeDisk(key, segment);
+    }
+
+    private TransitSegmentDto readDisk(String key, Instant now) {
+        if (diskDir == null) {
+            return null;
+        }
+        Path file = diskDir.resolve(fileName(key));
+        try {
+            if (!Files.exists(file)) {
+                return null;
+            }
+            if (Files.getLastModifiedTime(file).toInstant().plus(ttl).isBefore(now)) {
+                Files.deleteIfExists(file);
+                return null;
+            }
+            return objectMapper.readValue(file.toFile(), TransitSegmentDto.class);
+        } catch (IOException e) {
+            log.debug("구간 디스크 캐시 읽기 실패: {}", e.getMessage());
+            return null;
+        }
+    }
+
+    private void writeDisk(String key, TransitSegmentDto segment) {
+        if (diskDir == null) {
+            return;
+        }
+        Path file = diskDir.resolve(fileName(key));
+        try {
+            Path tmp = Files.createTempFile(diskDir, "seg", ".tmp");
+            objectMapper.writeValue(tmp.toFile(), segment);
+            Files.move(tmp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            log.debug("구간 디스크 캐시 쓰기 실패: {}", e.getMessage());
+        }
+    }
+
+    // 약 cellMeters 격자로 양자화한 좌표 + 시간대
+    String key(double fromLat, double fromLng, double toLat, double toLng, LocalDateTime departureTime) {
+        return cell(fromLat, fromLng) + ">" + cell(toLat, toLng) + "@" + TimeBucket.of(departureTime).name();
+    }
+
+    private String cell(double lat, double lng) {
+        double latStep = cellMeters / METERS_PER_DEGREE_LAT;
+        long latCell = Math.round(lat / latStep);
+        double lngStep = latStep / Math.max(0.01, Math.cos(Math.toRadians(latCell * latStep)));
+        long lngCell = Math.round(lng / lngStep);
+        return latCell + "," + lngCell;
+    }
+
+    private static String fileName(String key) {
+        return key.replace('>', '_').replace('@', '_').replace(',', '-') + ".json";
+    }
+
+    // 캐시된 구간에 요청 측 이름/좌표를 입힌 복사본 (캐시 원본은 수정하지 않음)
+    private static TransitSegmentDto withEndpoints(TransitSegmentDto cached,
+                                                   String fromName, double fromLat, double fromLng,
+                                                   String toName, double toLat, double toLng) {
+        return TransitSegmentDto.builder()
+                .fromName(fromName).fromLat(fromLat).fromLng(fromLng)
+                .toName(toName).toLat(toLat).toLng(toLng)
+                .distanceMeters(cached.getDistanceMeters())
+                .durationSeconds(cached.getDurationSeconds())
+                .fare(cached.getFare())
+                .summary(cached.getSummary())
+                .estimated(cached.isEstimated())
+                .steps(cached.getSteps())
+                .build();
+    }
+
+    private record CachedSegment(TransitSegmentDto segment, Instant expiresAt) {}
+}
@@ -0,0 +1,75 @@
+package com.mey.backend.domain.route.service;
+
+import com.mey.backend.domain.route.dto.CoordinateDto;
+
+import java.util.List;
+
+/**
+ * 위경도 거리 계산 유틸리티
+ */
+public final class GeoUtils {
+
+    private static final double EARTH_RADIUS_METERS = 6371000.0;
+
+    // 이동 시간 추정용 (실측값이 없을 때)
+    private static final int WALK_THRESHOLD_METERS = 1000;
+    private static final double WALK_SPEED_MPS = 1.2;
+    private static final double TRANSIT_SPEED_MPS = 5.5;
+    private static final int TRANSIT_OVERHEAD_SECONDS = 600; // 정류장 이동/대기
+    private static final double DETOUR_FACTOR = 1.3;         // 직선거리 대비 실제 경로
+
+    private GeoUtils() {
+    }
+
+    // 하버사인 거리(미터) 계산
+    public static double haversine(double lat1, double lon1, double lat2, double lon2) {
+        double dLat = Math.toRadians(lat2 - lat1);
+        double dLon = Math.toRadians(lon2 - lon1);
+        double a = Math.sin(dLat / 2) * Math.sin(dLat / 2)
+                + Math.cos(Math.toRadians(lat1)) * Math.cos(Math.toRadians(lat2))
+                * Math.sin(dLon / 2) * Math.sin(dLon / 2);
+        double c = 2 * Math.atan2(Math.sqrt(a), Math.sqrt(1 - a));
+        return EARTH_RADIUS_METERS * c;
+    }
+
+    public static int haversineMeters(double lat1, double lon1, double lat2, double lon2) {
+        return (int) Math.round(haversine(lat1, lon1, lat2, lon2));
+    }
+
+    // 좌표 목록의 쌍별 하버사인 거리 행렬 (미터)
+    public static double[][] haversineMatrix(List<CoordinateDto> points) {
+        int n = points.size();
+        double[][] matrix = new double[n][n];
+        for (int i = 0; i < n; i++) {
+            CoordinateDto a = points.get(i);
+            for (int j = i + 1; j < n; j++) {
+                CoordinateDto b = points.get(j);
+                double d = haversine(a.getLat(), a.getLng(), b.getLat(), b.getLng());
+                matrix[i][j] = d;
+                matrix[j][i] = d;
+            }
+        }
+        return matrix;
+    }
+
+    // 직선거리로 대중교통/도보 이동 시간(초) 추정
+    public static int estimateTravelSeconds(double straightMeters) {
+        double meters = straightMeters * DETOUR_FACTOR;
+        if (straightMeters <= WALK_THRESHOLD_METERS) {
+            return (int) Math.round(meters / WALK_SPEED_MPS);
+        }
+        return TRANSIT_OVERHEAD_SECONDS + (int) Math.round(meters / TRANSIT_SPEED_MPS);
+    }
+
+    // 방문 순서대로 이동했을 때의 총 직선거리 (미터)
+    public static int computeTotalMeters(List<CoordinateDto> points, List<Integer> order) {
+        if (order == null || order.size() <= 1) return 0;
+        int total = 0;
+        for (int i = 0; i < order.size() - 1; i++) {
+            CoordinateDto a = points.get(order.get(i));
+            CoordinateDto b = points.get(order.get(i + 1));
+            total += haversineMeters(a.getLat(), a.getLng(), b.getLat(), b.getLng());
+        }
+        return total;
+    }
+}
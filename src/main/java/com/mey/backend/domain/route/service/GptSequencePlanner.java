@@ -1,15 +1,19 @@
 package com.mey.backend.domain.route.service;
 
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.mey.backend.domain.chatbot.service.LlmModelRouter;
 import com.mey.backend.domain.route.dto.CoordinateDto;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
+import org.springframework.http.client.SimpleClientHttpRequestFactory;
 import org.springframework.stereotype.Component;
 import org.springframework.web.client.RestClient;
 
 import jakarta.annotation.PostConstruct;
+import java.time.Duration;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
@@ -21,6 +25,9 @@ import java.util.stream.IntStream;
 @RequiredArgsConstructor
 public class GptSequencePlanner implements SequencePlanner {
 
+    private final LlmModelRouter modelRouter;
+    private final TravelCostMatrix travelCostMatrix;
+
     @Value("${openai.api.key}")
     private String apiKey;
 
@@ -28,21 +35,48 @@ public class GptSequencePlanner implements SequencePlanner {
     @Value("${openai.api.url:https://api.openai.com/v1/chat/completions}")
     private String apiUrl;
 
+    // 경쟁 마감 시간(route.planner.racing.deadline-ms)이 지나도 스레드를 잡고 있지 않도록 짧게
+    @Value("${route.planner.gpt.connect-timeout:PT2S}")
+    private Duration connectTimeout;
+
+    @Value("${route.planner.gpt.read-timeout:PT4S}")
+    private Duration readTimeout;
+
     private RestClient rest;
 
     @PostConstruct
     void init() {
+        SimpleClientHttpRequestFactory requestFactory = new SimpleClientHttpRequestFactory();
+        requestFactory.setConnectTimeout(connectTimeout);
+        requestFactory.setReadTimeout(readTimeout);
+
         this.rest = RestClient.builder()
                 .baseUrl(apiUrl)
+                .requestFactory(requestFactory)
                 .defaultHeader(HttpHeaders.AUTHORIZATION, "Bearer " + apiKey)
                 .defaultHeader(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
                 .build();
     }
 
+    @Override
+    public String name() {
+        return "gpt";
+    }
+
+    @Override
+    public boolean ioBound() {
+        return true;
+    }
+
     @Override
     public PlanResult plan(List<CoordinateDto> points) {
+        return plan(points, travelCostMatrix.build(points));
+    }
+
+    @Override
+    public PlanResult plan(List<CoordinateDto> points, double[][] cost) {
         try {
-            String prompt = buildPrompt(points);
+            String prompt = buildPrompt(points, cost);
             String gptResponse = callGpt(prompt);
             return parseGptResponse(gptResponse, points);
         } catch (Exception e) {
@@ -51,12 +85,17 @@ public class GptSequencePlanner implements SequencePlanner {
         }
     }
 
-    // GPT에게 '순서'만 요구
-    private String buildPrompt(List<CoordinateDto> points) {
+    // GPT에게 '순서'만 요구, 직선거리가 아닌 기준이면 비용 행렬을 함께 전달
+    private String buildPrompt(List<CoordinateDto> points, double[][] cost) {
+        TravelCostMatrix.Objective objective = travelCostMatrix.objective();
         StringBuilder sb = new StringBuilder();
+        sb.append("다음 좌표들을 한 번씩 방문하는 최적의 순서를 구하세요.\n");
+        sb.append(switch (objective) {
+            case DISTANCE -> "목적: 총 이동거리(직선거리, 하버사인 근사)가 최소가 되도록.\n";
+            case DURATION -> "목적: 아래 비용 행렬(대중교통 소요시간, 초)의 합이 최소가 되도록. 좌표는 참고용입니다.\n";
+            case BLENDED -> "목적: 아래 비용 행렬(대중교통 소요시간 + 요금 환산, 초)의 합이 최소가 되도록. 좌표는 참고용입니다.\n";
+        });
         sb.append("""
-        다음 좌표들을 한 번씩 방문하는 최적의 순서를 구하세요.
-        목적: 총 이동거리(직선거리, 하버사인 근사)가 최소가 되도록.
 
         반드시 아래 EXACT 포맷으로만 출력하세요. 다른 설명/문장/코드블록 금지.
         ORDER: [0, 2, 1, ...]
@@ -68,23 +107,41 @@ public class GptSequencePlanner implements SequencePlanner {
             CoordinateDto p = points.get(i);
             sb.append(String.format("%d: %.6f, %.6f%n", i, p.getLat(), p.getLng()));
         }
+
+        if (objective != TravelCostMatrix.Objective.DISTANCE) {
+            // 방향에 따라 값이 다를 수 있음 (행 i → 열 j)
+            sb.append("\n비용 행렬 (행 i에서 열 j로 가는 비용, 초):\n");
+            for (int i = 0; i < cost.length; i++) {
+                sb.append(i).append(": [");
+                for (int j = 0; j < cost[i].length; j++) {
+                    if (j > 0) sb.append(", ");
+                    sb.append(Math.round(cost[i][j]));
+                }
+                sb.append("]\n");
+            }
+        }
         return sb.toString();
     }
 
     private String callGpt(String prompt) {
+        String model = modelRouter.selectModel(LlmModelRouter.LlmRoute.ROUTE_SEQUENCE, prompt);
         Map<String, Object> body = Map.of(
-                "model", "gpt-3.5-turbo",
+                "model", model,
                 "messages", List.of(Map.of("role", "user", "content", prompt)),
                 "max_tokens", 500,
                 "temperature", 0.3
         );
 
-        GptResponse resp = rest.post()
+        GptResponse resp = modelRouter.invoke(LlmModelRouter.LlmRoute.ROUTE_SEQUENCE, model, () -> rest.post()
                 .uri("") // baseUrl에 풀 URL 사용 중이므로 빈 경로
                 .body(body)
                 .retrieve()
-                .body(GptResponse.class);
+                .body(GptResponse.class));
 
+        if (resp != null && resp.usage() != null) {
+            modelRouter.recordUsage(LlmModelRouter.LlmRoute.ROUTE_SEQUENCE, model,
+                    resp.usage().promptTokens(), resp.usage().completionTokens());
+        }
         if (resp == null || resp.choices() == null || resp.choices().isEmpty()) {
             throw new IllegalStateException("Empty GPT response");
         }
@@ -95,7 +152,7 @@ public class GptSequencePlanner implements SequencePlanner {
     private PlanResult parseGptResponse(String response, List<CoordinateDto> points) {
         try {
             List<Integer> order = parseOrder(response, points.size());
-            int totalMeters = computeTotalMeters(points, order);
+            int totalMeters = GeoUtils.computeTotalMeters(points, order);
             return new PlanResult(order, totalMeters);
         } catch (Exception e) {
             log.warn("GPT 응답 파싱 실패: {}", e.getMessage());
@@ -118,37 +175,16 @@ public class GptSequencePlanner implements SequencePlanner {
         return IntStream.range(0, pointCount).boxed().toList();
     }
 
-    // 하버사인 거리(미터) 계산
-    private static int haversineMeters(double lat1, double lon1, double lat2, double lon2) {
-        double R = 6371000.0; // meters
-        double dLat = Math.toRadians(lat2 - lat1);
-        double dLon = Math.toRadians(lon2 - lon1);
-        double a = Math.sin(dLat / 2) * Math.sin(dLat / 2)
-                + Math.cos(Math.toRadians(lat1)) * Math.cos(Math.toRadians(lat2))
-                * Math.sin(dLon / 2) * Math.sin(dLon / 2);
-        double c = 2 * Math.atan2(Math.sqrt(a), Math.sqrt(1 - a));
-        return (int) Math.round(R * c);
-    }
-
-    private int computeTotalMeters(List<CoordinateDto> points, List<Integer> order) {
-        if (order == null || order.size() <= 1) return 0;
-        int total = 0;
-        for (int i = 0; i < order.size() - 1; i++) {
-            CoordinateDto a = points.get(order.get(i));
-            CoordinateDto b = points.get(order.get(i + 1));
-            total += haversineMeters(a.getLat(), a.getLng(), b.getLat(), b.getLng());
-        }
-        return total;
-    }
-
     private PlanResult fallbackPlan(List<CoordinateDto> points) {
         List<Integer> defaultOrder = IntStream.range(0, points.size()).boxed().toList();
-        int total = computeTotalMeters(points, defaultOrder);
+        int total = GeoUtils.computeTotalMeters(points, defaultOrder);
         return new PlanResult(defaultOrder, total);
     }
 
     // GPT API 응답 DTO
-    record GptResponse(List<Choice> choices) {}
+    record GptResponse(List<Choice> choices, Usage usage) {}
     record Choice(Message message) {}
     record Message(String content) {}
+    record Usage(@JsonProperty("prompt_tokens") int promptTokens,
+                 @JsonProperty("completion_tokens") int completionTokens) {}
 }
\ No newline at end of file
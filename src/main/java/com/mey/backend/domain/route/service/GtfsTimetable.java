@@ -0,0 +1,558 @@
+package com.mey.backend.domain.route.service;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 정적 GTFS 피드를 RAPTOR 탐색용 기본형 배열로 적재한 시간표
+ *
+ * - 같은 노선이면서 정차 순서가 같은 trip을 하나의 패턴으로 묶고, 패턴별 도착/출발 시각을 trip × 정류장 2차원 배열(평탄화)로 보관
+ * - 패턴 내 trip은 첫 정류장 출발 시각 순으로 정렬 (추월 없음 가정)
+ * - 정류장 간 환승 도보는 transfers.txt 대신 반경 내 정류장으로 계산
+ * - 시각은 서비스일 자정 기준 초 (24시 이후 값 허용)
+ *
+ * 사용 파일: stops.txt, routes.txt, trips.txt, stop_times.txt, calendar.txt(선택)
+ */
+@Slf4j
+final class GtfsTimetable {
+
+    static final int ALWAYS_ACTIVE = -1;
+
+    private static final double METERS_PER_DEGREE = 111_320.0;
+    private static final double CELL_DEGREES = 0.005; // 약 550m 격자
+
+    // 정류장
+    final int stopCount;
+    final double[] stopLat;
+    final double[] stopLng;
+    final String[] stopName;
+
+    // 노선
+    final String[] routeName;
+    final int[] routeType;
+
+    // 패턴: patternStops[patternStopOffset[p] .. patternStopOffset[p+1])
+    final int patternCount;
+    final int[] patternRoute;
+    final int[] patternStopOffset;
+    final int[] patternStops;
+    // 패턴 p의 trip 수 = patternTripOffset[p+1] - patternTripOffset[p]
+    final int[] patternTripOffset;
+    // 패턴 p, trip t(패턴 내 순번), 위치 i의 시각 = arrivals[patternTimeOffset[p] + t * len + i]
+    final int[] patternTimeOffset;
+    final int[] arrivals;
+    final int[] departures;
+    final int[] tripService; // patternTripOffset 기준 trip 순번 → 서비스 번호
+
+    // 정류장 → (패턴, 패턴 내 위치)
+    final int[] stopPatternOffset;
+    final int[] stopPatterns;
+    final int[] stopPatternPositions;
+
+    // 정류장 간 도보 환승
+    final int[] transferOffset;
+    final int[] transferTo;
+    final int[] transferSeconds;
+
+    // 서비스 운행일: 요일 비트(월=bit0), 시작/종료일(yyyymmdd)
+    final int[] serviceDays;
+    final int[] serviceStart;
+    final int[] serviceEnd;
+
+    private final Map<Long, int[]> grid;
+
+    private GtfsTimetable(Builder b) {
+        this.stopCount = b.stopLat.size();
+        this.stopLat = b.stopLat.toArray();
+        this.stopLng = b.stopLng.toArray();
+        this.stopName = b.stopName.toArray(new String[0]);
+        this.routeName = b.routeName.toArray(new String[0]);
+        this.routeType = b.routeType.toArray();
+        this.patternCount = b.patternRoute.size();
+        this.patternRoute = b.patternRoute.toArray();
+        this.patternStopOffset = b.patternStopOffset.toArray();
+        this.patternStops = b.patternStops.toArray();
+        this.patternTripOffset = b.patternTripOffset.toArray();
+        this.patternTimeOffset = b.patternTimeOffset.toArray();
+        this.arrivals = b.arrivals.toArray();
+        this.departures = b.departures.toArray();
+        this.tripService = b.tripService.toArray();
+        this.serviceDays = b.serviceDays.toArray();
+        this.serviceStart = b.serviceStart.toArray();
+        this.serviceEnd = b.serviceEnd.toArray();
+        this.grid = buildGrid(stopLat, stopLng);
+
+        // 정류장 → 패턴 역색인
+        int[] counts = new int[stopCount + 1];
+        for (int p = 0; p < patternCount; p++) {
+            for (int i = patternStopOffset[p]; i < patternStopOffset[p + 1]; i++) counts[patternStops[i] + 1]++;
+        }
+        for (int s = 0; s < stopCount; s++) counts[s + 1] += counts[s];
+        this.stopPatternOffset = counts.clone();
+        this.stopPatterns = new int[counts[stopCount]];
+        this.stopPatternPositions = new int[counts[stopCount]];
+        int[] cursor = Arrays.copyOf(counts, stopCount);
+        for (int p = 0; p < patternCount; p++) {
+            int start = patternStopOffset[p];
+            for (int i = start; i < patternStopOffset[p + 1]; i++) {
+                int at = cursor[patternStops[i]]++;
+                stopPatterns[at] = p;
+                stopPatternPositions[at] = i - start;
+            }
+        }
+
+        // 반경 내 정류장 간 도보 환승
+        IntList offsets = new IntList(stopCount + 1);
+        IntList to = new IntList(stopCount * 4);
+        IntList seconds = new IntList(stopCount * 4);
+        IntList nearStops = new IntList(32);
+        IntList nearMeters = new IntList(32);
+        offsets.add(0);
+        for (int s = 0; s < stopCount; s++) {
+            nearby(stopLat[s], stopLng[s], b.transferMeters, nearStops, nearMeters);
+            for (int i = 0; i < nearStops.size(); i++) {
+                if (nearStops.get(i) == s) continue;
+                to.add(nearStops.get(i));
+                seconds.add(walkSeconds(nearMeters.get(i), b.detourFactor, b.walkSpeedMps));
+            }
+            offsets.add(to.size());
+        }
+        this.transferOffset = offsets.toArray();
+        this.transferTo = to.toArray();
+        this.transferSeconds = seconds.toArray();
+    }
+
+    int patternLength(int pattern) {
+        return patternStopOffset[pattern + 1] - patternStopOffset[pattern];
+    }
+
+    int tripCount(int pattern) {
+        return patternTripOffset[pattern + 1] - patternTripOffset[pattern];
+    }
+
+    int arrival(int pattern, int trip, int position) {
+        return arrivals[patternTimeOffset[pattern] + trip * patternLength(pattern) + position];
+    }
+
+    int departure(int pattern, int trip, int position) {
+        return departures[patternTimeOffset[pattern] + trip * patternLength(pattern) + position];
+    }
+
+    int stopAt(int pattern, int position) {
+        return patternStops[patternStopOffset[pattern] + position];
+    }
+
+    boolean isActive(int pattern, int trip, int date, int dayBit) {
+        int service = tripService[patternTripOffset[pattern] + trip];
+        if (service == ALWAYS_ACTIVE) return true;
+        return (serviceDays[service] & dayBit) != 0 && serviceStart[service] <= date && date <= serviceEnd[service];
+    }
+
+    /**
+     * 좌표 반경 내 정류장과 직선거리(미터)
+     */
+    void nearby(double lat, double lng, double radiusMeters, IntList outStops, IntList outMeters) {
+        outStops.clear();
+        outMeters.clear();
+        double dLat = radiusMeters / METERS_PER_DEGREE;
+        double dLng = radiusMeters / (METERS_PER_DEGREE * Math.max(0.1, Math.cos(Math.toRadians(lat))));
+        int minLat = cell(lat - dLat);
+        int maxLat = cell(lat + dLat);
+        int minLng = cell(lng - dLng);
+        int maxLng = cell(lng + dLng);
+        for (int y = minLat; y <= maxLat; y++) {
+            for (int x = minLng; x <= maxLng; x++) {
+                int[] stops = grid.get(cellKey(y, x));
+                if (stops == null) continue;
+                for (int s : stops) {
+                    double d = GeoUtils.haversine(lat, lng, stopLat[s], stopLng[s]);
+                    if (d <= radiusMeters) {
+                        outStops.add(s);
+                        outMeters.add((int) Math.round(d));
+                    }
+                }
+            }
+        }
+    }
+
+    static int walkSeconds(double meters, double detourFactor, double walkSpeedMps) {
+        return (int) Math.round(meters * detourFactor / walkSpeedMps);
+    }
+
+    private static Map<Long, int[]> buildGrid(double[] lat, double[] lng) {
+        Map<Long, IntList> cells = new HashMap<>();
+        for (int s = 0; s < lat.length; s++) {
+            cells.computeIfAbsent(cellKey(cell(lat[s]), cell(lng[s])), k -> new IntList(8)).add(s);
+        }
+        Map<Long, int[]> grid = new HashMap<>(cells.size() * 2);
+        cells.forEach((k, v) -> grid.put(k, v.toArray()));
+        return grid;
+    }
+
+    private static int cell(double degrees) {
+        return (int) Math.floor(degrees / CELL_DEGREES);
+    }
+
+    private static long cellKey(int latCell, int lngCell) {
+        return ((long) latCell << 32) | (lngCell & 0xffffffffL);
+    }
+
+    // ------------------------------------------------------------------
+    // 적재
+    // ------------------------------------------------------------------
+
+    static GtfsTimetable load(Path dir, double transferMeters, double detourFactor, double walkSpeedMps)
+            throws IOException {
+        long started = System.currentTimeMillis();
+        Builder b = new Builder(transferMeters, detourFactor, walkSpeedMps);
+
+        Map<String, Integer> stopIndex = new HashMap<>();
+        readCsv(dir.resolve("stops.txt"), row -> {
+            String lat = row.get("stop_lat");
+            String lng = row.get("stop_lon");
+            if (lat == null || lat.isBlank() || lng == null || lng.isBlank()) return;
+            stopIndex.put(row.get("stop_id"), b.stopLat.size());
+            b.stopLat.add(Double.parseDouble(lat));
+            b.stopLng.add(Double.parseDouble(lng));
+            b.stopName.add(row.get("stop_name"));
+        });
+
+        Map<String, Integer> routeIndex = new HashMap<>();
+        readCsv(dir.resolve("routes.txt"), row -> {
+            routeIndex.put(row.get("route_id"), b.routeName.size());
+            String name = row.get("route_short_name");
+            b.routeName.add(name == null || name.isBlank() ? row.get("route_long_name") : name);
+            String type = row.get("route_type");
+            b.routeType.add(type == null || type.isBlank() ? 3 : Integer.parseInt(type.trim()));
+        });
+
+        Map<String, Integer> serviceIndex = new HashMap<>();
+        Path calendar = dir.resolve("calendar.txt");
+        if (Files.exists(calendar)) {
+            String[] days = {"monday", "tuesday", "wednesday", "thursday", "friday", "saturday", "sunday"};
+            readCsv(calendar, row -> {
+                int bits = 0;
+                for (int d = 0; d < days.length; d++) {
+                    if ("1".equals(row.get(days[d]))) bits |= 1 << d;
+                }
+                serviceIndex.put(row.get("service_id"), b.serviceDays.size());
+                b.serviceDays.add(bits);
+                b.serviceStart.add(Integer.parseInt(row.get("start_date").trim()));
+                b.serviceEnd.add(Integer.parseInt(row.get("end_date").trim()));
+            });
+        }
+
+        Map<String, Integer> tripIndex = new HashMap<>();
+        IntList tripRoute = new IntList(1024);
+        IntList tripServiceRaw = new IntList(1024);
+        readCsv(dir.resolve("trips.txt"), row -> {
+            Integer route = routeIndex.get(row.get("route_id"));
+            if (route == null) return;
+            tripIndex.put(row.get("trip_id"), tripRoute.size());
+            tripRoute.add(route);
+            tripServiceRaw.add(serviceIndex.getOrDefault(row.get("service_id"), ALWAYS_ACTIVE));
+        });
+
+        // stop_times: 행을 기본형 배열에 모은 뒤 trip 기준 계수 정렬
+        IntList rowTrip = new IntList(1 << 16);
+        IntList rowSeq = new IntList(1 << 16);
+        IntList rowStop = new IntList(1 << 16);
+        IntList rowArr = new IntList(1 << 16);
+        IntList rowDep = new IntList(1 << 16);
+        readCsv(dir.resolve("stop_times.txt"), row -> {
+            Integer trip = tripIndex.get(row.get("trip_id"));
+            Integer stop = stopIndex.get(row.get("stop_id"));
+            if (trip == null || stop == null) return;
+            int arr = parseTime(row.get("arrival_time"));
+            int dep = parseTime(row.get("departure_time"));
+            rowTrip.add(trip);
+            rowSeq.add(Integer.parseInt(row.get("stop_sequence").trim()));
+            rowStop.add(stop);
+            rowArr.add(arr >= 0 ? arr : dep);
+            rowDep.add(dep >= 0 ? dep : arr);
+        });
+
+        int tripCount = tripRoute.size();
+        int[] tripStart = new int[tripCount + 1];
+        for (int r = 0; r < rowTrip.size(); r++) tripStart[rowTrip.get(r) + 1]++;
+        for (int t = 0; t < tripCount; t++) tripStart[t + 1] += tripStart[t];
+        int[] order = new int[rowTrip.size()];
+        int[] cursor = Arrays.copyOf(tripStart, tripCount);
+        for (int r = 0; r < rowTrip.size(); r++) order[cursor[rowTrip.get(r)]++] = r;
+
+        // 패턴 구성
+        Map<PatternKey, IntList> patternTrips = new HashMap<>();
+        List<PatternKey> patternOrder = new ArrayList<>();
+        Map<Integer, int[]> tripArr = new HashMap<>();
+        Map<Integer, int[]> tripDep = new HashMap<>();
+        for (int t = 0; t < tripCount; t++) {
+            int from = tripStart[t];
+            int len = tripStart[t + 1] - from;
+            if (len < 2) continue;
+            sortBySequence(order, from, len, rowSeq);
+
+            int[] stops = new int[len];
+            int[] arr = new int[len];
+            int[] dep = new int[len];
+            for (int i = 0; i < len; i++) {
+                int r = order[from + i];
+                stops[i] = rowStop.get(r);
+                arr[i] = rowArr.get(r);
+                dep[i] = rowDep.get(r);
+            }
+            if (!interpolate(arr, dep)) continue;
+
+            PatternKey key = new PatternKey(tripRoute.get(t), stops);
+            IntList trips = patternTrips.get(key);
+            if (trips == null) {
+                trips = new IntList(8);
+                patternTrips.put(key, trips);
+                patternOrder.add(key);
+            }
+            trips.add(t);
+            tripArr.put(t, arr);
+            tripDep.put(t, dep);
+        }
+
+        b.patternStopOffset.add(0);
+        b.patternTripOffset.add(0);
+        for (PatternKey key : patternOrder) {
+            int[] trips = patternTrips.get(key).toArray();
+            Integer[] sorted = new Integer[trips.length];
+            for (int i = 0; i < trips.length; i++) sorted[i] = trips[i];
+            Arrays.sort(sorted, (x, y) -> Integer.compare(tripDep.get(x)[0], tripDep.get(y)[0]));
+
+            b.patternRoute.add(key.route);
+            b.patternTimeOffset.add(b.arrivals.size());
+            for (int s : key.stops) b.patternStops.add(s);
+            b.patternStopOffset.add(b.patternStops.size());
+            for (Integer t : sorted) {
+                for (int v : tripArr.get(t)) b.arrivals.add(v);
+                for (int v : tripDep.get(t)) b.departures.add(v);
+                b.tripService.add(tripServiceRaw.get(t));
+            }
+            b.patternTripOffset.add(b.tripService.size());
+        }
+
+        GtfsTimetable timetable = new GtfsTimetable(b);
+        log.info("GTFS 시간표 적재 완료 - 정류장 {}, 패턴 {}, trip {}, 환승 {}, {}ms",
+                timetable.stopCount, timetable.patternCount, timetable.tripService.length,
+                timetable.transferTo.length, System.currentTimeMillis() - started);
+        return timetable;
+    }
+
+    private static void sortBySequence(int[] order, int from, int len, IntList seq) {
+        for (int i = from + 1; i < from + len; i++) {
+            int r = order[i];
+            int j = i - 1;
+            while (j >= from && seq.get(order[j]) > seq.get(r)) {
+                order[j + 1] = order[j];
+                j--;
+            }
+            order[j + 1] = r;
+        }
+    }
+
+    // 시각이 비어 있는 중간 정류장은 앞뒤 시각으로 선형 보간, 첫/끝 시각이 없으면 false
+    private static boolean interpolate(int[] arr, int[] dep) {
+        int n = arr.length;
+        if (dep[0] < 0 || arr[n - 1] < 0) return false;
+        int prev = 0;
+        for (int i = 1; i < n; i++) {
+            if (arr[i] < 0) continue;
+            for (int k = prev + 1; k < i; k++) {
+                int t = dep[prev] + (int) ((long) (arr[i] - dep[prev]) * (k - prev) / (i - prev));
+                arr[k] = t;
+                dep[k] = t;
+            }
+            prev = i;
+        }
+        return true;
+    }
+
+    // "H:MM:SS" / "HH:MM:SS" → 초, 비어 있으면 -1
+    static int parseTime(String value) {
+        if (value == null) return -1;
+        String v = value.trim();
+        if (v.isEmpty()) return -1;
+        int first = v.indexOf(':');
+        int second = v.indexOf(':', first + 1);
+        if (first < 0 || second < 0) return -1;
+        return Integer.parseInt(v.substring(0, first)) * 3600
+                + Integer.parseInt(v.substring(first + 1, second)) * 60
+                + Integer.parseInt(v.substring(second + 1));
+    }
+
+    private interface RowHandler {
+        void accept(Row row);
+    }
+
+    /**
+     * 헤더 이름으로 열을 찾는 CSV 행 (큰따옴표 필드 지원)
+     */
+    static final class Row {
+        private final Map<String, Integer> header;
+        private final List<String> values = new ArrayList<>();
+
+        Row(Map<String, Integer> header) {
+            this.header = header;
+        }
+
+        String get(String column) {
+            Integer i = header.get(column);
+            return i == null || i >= values.size() ? null : values.get(i);
+        }
+
+        void parse(String line) {
+            values.clear();
+            StringBuilder field = new StringBuilder();
+            boolean quoted = false;
+            for (int i = 0; i < line.length(); i++) {
+                char c = line.charAt(i);
+                if (quoted) {
+                    if (c == '"') {
+                        if (i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                            field.append('"');
+                            i++;
+                        } else {
+                            quoted = false;
+                        }
+                    } else {
+                        field.append(c);
+                    }
+                } else if (c == '"') {
+                    quoted = true;
+                } else if (c == ',') {
+                    values.add(field.toString());
+                    field.setLength(0);
+                } else {
+                    field.append(c);
+                }
+            }
+            values.add(field.toString());
+        }
+    }
+
+    private static void readCsv(Path file, RowHandler handler) throws IOException {
+        try (BufferedReader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+            String headerLine = reader.readLine();
+            if (headerLine == null) return;
+            if (headerLine.startsWith("\uFEFF")) headerLine = headerLine.substring(1);
+
+            Row row = new Row(new HashMap<>());
+            row.parse(headerLine);
+            Map<String, Integer> header = new HashMap<>();
+            for (int i = 0; i < row.values.size(); i++) header.put(row.values.get(i).trim(), i);
+
+            Row data = new Row(header);
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (line.isBlank()) continue;
+                data.parse(line);
+                handler.accept(data);
+            }
+        }
+    }
+
+    private record PatternKey(int route, int[] stops) {
+        @Override
+        public boolean equals(Object o) {
+            return o instanceof PatternKey other && route == other.route && Arrays.equals(stops, other.stops);
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * route + Arrays.hashCode(stops);
+        }
+    }
+
+    private static final class Builder {
+        final double transferMeters;
+        final double detourFactor;
+        final double walkSpeedMps;
+
+        final DoubleList stopLat = new DoubleList();
+        final DoubleList stopLng = new DoubleList();
+        final List<String> stopName = new ArrayList<>();
+        final List<String> routeName = new ArrayList<>();
+        final IntList routeType = new IntList(64);
+        final IntList serviceDays = new IntList(16);
+        final IntList serviceStart = new IntList(16);
+        final IntList serviceEnd = new IntList(16);
+        final IntList patternRoute = new IntList(256);
+        final IntList patternStopOffset = new IntList(256);
+        final IntList patternStops = new IntList(4096);
+        final IntList patternTripOffset = new IntList(256);
+        final IntList patternTimeOffset = new IntList(256);
+        final IntList arrivals = new IntList(1 << 16);
+        final IntList departures = new IntList(1 << 16);
+        final IntList tripService = new IntList(1024);
+
+        Builder(double transferMeters, double detourFactor, double walkSpeedMps) {
+            this.transferMeters = transferMeters;
+            this.detourFactor = detourFactor;
+            this.walkSpeedMps = walkSpeedMps;
+        }
+    }
+
+    /**
+     * 박싱 없는 가변 int 배열
+     */
+    static final class IntList {
+        private int[] values;
+        private int size;
+
+        IntList(int capacity) {
+            this.values = new int[Math.max(4, capacity)];
+        }
+
+        void add(int v) {
+            if (size == values.length) values = Arrays.copyOf(values, size << 1);
+            values[size++] = v;
+        }
+
+        int get(int i) {
+            return values[i];
+        }
+
+        int size() {
+            return size;
+        }
+
+        void clear() {
+            size = 0;
+        }
+
+        int[] toArray() {
+            return Arrays.copyOf(values, size);
+        }
+    }
+
+    private static final class DoubleList {
+        private double[] values = new double[1024];
+        private int size;
+
+        void add(double v) {
+            if (size == values.length) values = Arrays.copyOf(values, size << 1);
+            values[size++] = v;
+        }
+
+        int size() {
+            return size;
+        }
+
+        double[] toArray() {
+            return Arrays.copyOf(values, size);
+        }
+    }
+}
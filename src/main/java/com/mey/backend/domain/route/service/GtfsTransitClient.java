@@ -0,0 +1,263 @@
+package com.mey.backend.domain.route.service;
+
+import com.mey.backend.domain.route.dto.PackedPolyline;
+import com.mey.backend.domain.route.dto.TransitMetricsDto;
+import com.mey.backend.domain.route.dto.TransitSegmentDto;
+import com.mey.backend.domain.route.dto.TransitStepDto;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 로컬 GTFS 시간표를 RAPTOR로 탐색하는 TransitClient
+ *
+ * - 시간표는 별도 스레드에서 적재하며, 적재 전이거나 여정을 찾지 못하면 fallback(TMAP 등)으로 위임
+ * - fallback이 없으면 도보 추정 구간 반환
+ * - 도보만으로 더 빨리 도착하면 도보 구간 반환 (estimated = true)
+ * - 요금은 GTFS 요금 파일 대신 대중교통 이용 시 기본요금 1회(통합 환승 가정)로 계산
+ */
+@Slf4j
+public class GtfsTransitClient implements TransitClient {
+
+    private static final ZoneId ZONE = ZoneId.of("Asia/Seoul");
+
+    private final TransitClient fallback;
+    private final RaptorRouter.Params params;
+    private final int baseFare;
+
+    private volatile GtfsTimetable timetable;
+    private volatile RaptorRouter router;
+
+    private final Timer searchTimer;
+    private final Counter found;
+    private final Counter walkOnly;
+    private final Counter delegated;
+
+    public GtfsTransitClient(TransitClient fallback, MeterRegistry meterRegistry,
+                             int maxRides, double accessMeters, double detourFactor, double walkSpeedMps,
+                             int baseFare) {
+        this.fallback = fallback;
+        this.params = new RaptorRouter.Params(maxRides, accessMeters, detourFactor, walkSpeedMps);
+        this.baseFare = baseFare;
+        this.searchTimer = Timer.builder("route.transit.gtfs.search")
+                .publishPercentiles(0.5, 0.95)
+                .register(meterRegistry);
+        this.found = result(meterRegistry, "transit");
+        this.walkOnly = result(meterRegistry, "walk");
+        this.delegated = result(meterRegistry, "delegated");
+    }
+
+    /**
+     * GTFS 피드 디렉터리를 백그라운드 스레드에서 적재
+     */
+    public void loadAsync(Path feedDir, double transferMeters) {
+        Thread loader = new Thread(() -> {
+            try {
+                GtfsTimetable loaded = GtfsTimetable.load(feedDir, transferMeters,
+                        params.detourFactor(), params.walkSpeedMps());
+                this.router = new RaptorRouter(loaded);
+                this.timetable = loaded;
+            } catch (Exception e) {
+                log.error("GTFS 시간표 적재 실패 - {}: {}", feedDir, e.getMessage(), e);
+            }
+        }, "gtfs-loader");
+        loader.setDaemon(true);
+        loader.start();
+    }
+
+    public boolean isReady() {
+        return timetable != null;
+    }
+
+    @Override
+    public TransitSegmentDto route(String fromName, double fromLat, double fromLng,
+                                   String toName, double toLat, double toLng,
+                                   LocalDateTime departureTime) {
+        RaptorRouter.Journey journey = search(fromLat, fromLng, toLat, toLng, departureTime);
+        if (journey == null) {
+            return delegateRoute(fromName, fromLat, fromLng, toName, toLat, toLng, departureTime);
+        }
+        if (isWalkFaster(journey, fromLat, fromLng, toLat, toLng)) {
+            walkOnly.increment();
+            return WalkSegmentFactory.segment(fromName, fromLat, fromLng, toName, toLat, toLng,
+                    params.detourFactor(), params.walkSpeedMps(), "도보 이동");
+        }
+        found.increment();
+        return toSegment(journey, fromName, fromLat, fromLng, toName, toLat, toLng);
+    }
+
+    @Override
+    public TransitMetricsDto metrics(double fromLat, double fromLng, double toLat, double toLng,
+                                     LocalDateTime departureTime) {
+        RaptorRouter.Journey journey = search(fromLat, fromLng, toLat, toLng, departureTime);
+        if (journey == null) {
+            delegated.increment();
+            return fallback != null
+                    ? fallback.metrics(fromLat, fromLng, toLat, toLng, departureTime)
+                    : WalkSegmentFactory.metrics(fromLat, fromLng, toLat, toLng, params.detourFactor(), params.walkSpeedMps());
+        }
+        if (isWalkFaster(journey, fromLat, fromLng, toLat, toLng)) {
+            walkOnly.increment();
+            return WalkSegmentFactory.metrics(fromLat, fromLng, toLat, toLng, params.detourFactor(), params.walkSpeedMps());
+        }
+        found.increment();
+        int distance = 0;
+        for (RaptorRouter.Leg leg : journey.legs()) {
+            distance += legMeters(leg);
+        }
+        return TransitMetricsDto.builder()
+                .distanceMeters(distance)
+                .durationSeconds(journey.arrival() - journey.departure())
+                .fare(baseFare)
+                .build();
+    }
+
+    private RaptorRouter.Journey search(double fromLat, double fromLng, double toLat, double toLng,
+                                        LocalDateTime departureTime) {
+        RaptorRouter current = router;
+        if (current == null) {
+            return null;
+        }
+        LocalDateTime at = departureTime != null ? departureTime : LocalDateTime.now(ZONE);
+        int date = at.getYear() * 10000 + at.getMonthValue() * 100 + at.getDayOfMonth();
+        int dayBit = 1 << (at.getDayOfWeek().getValue() - 1);
+        int seconds = at.toLocalTime().toSecondOfDay();
+
+        long start = System.nanoTime();
+        try {
+            return current.search(fromLat, fromLng, toLat, toLng, seconds, date, dayBit, params);
+        } finally {
+            searchTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    private TransitSegmentDto delegateRoute(String fromName, double fromLat, double fromLng,
+                                            String toName, double toLat, double toLng,
+                                            LocalDateTime departureTime) {
+        delegated.increment();
+        if (fallback != null) {
+            return fallback.route(fromName, fromLat, fromLng, toName, toLat, toLng, departureTime);
+        }
+        return WalkSegmentFactory.segment(fromName, fromLat, fromLng, toName, toLat, toLng,
+                params.detourFactor(), params.walkSpeedMps(), "도보 이동(추정)");
+    }
+
+    private boolean isWalkFaster(RaptorRouter.Journey journey,
+                                 double fromLat, double fromLng, double toLat, double toLng) {
+        int walk = GtfsTimetable.walkSeconds(GeoUtils.haversine(fromLat, fromLng, toLat, toLng),
+                params.detourFactor(), params.walkSpeedMps());
+        return walk <= journey.arrival() - journey.departure();
+    }
+
+    private TransitSegmentDto toSegment(RaptorRouter.Journey journey,
+                                        String fromName, double fromLat, double fromLng,
+                                        String toName, double toLat, double toLng) {
+        GtfsTimetable tt = timetable;
+        List<TransitStepDto> steps = new ArrayList<>(journey.legs().size());
+        StringBuilder summary = new StringBuilder();
+        int totalDistance = 0;
+
+        for (RaptorRouter.Leg leg : journey.legs()) {
+            int distance = legMeters(leg);
+            totalDistance += distance;
+            String startName = leg.fromStop() < 0 ? fromName : tt.stopName[leg.fromStop()];
+            String endName = leg.toStop() < 0 ? toName : tt.stopName[leg.toStop()];
+
+            PackedPolyline.Builder polyline = PackedPolyline.builder();
+            TransitStepDto.TransitStepDtoBuilder step = TransitStepDto.builder()
+                    .distanceMeters(distance)
+                    .durationSeconds(leg.arrival() - leg.departure());
+
+            String label;
+            if (leg.isWalk()) {
+                label = "도보";
+                polyline.append(leg.fromStop() < 0 ? fromLat : tt.stopLat[leg.fromStop()],
+                        leg.fromStop() < 0 ? fromLng : tt.stopLng[leg.fromStop()]);
+                polyline.append(leg.toStop() < 0 ? toLat : tt.stopLat[leg.toStop()],
+                        leg.toStop() < 0 ? toLng : tt.stopLng[leg.toStop()]);
+                step.mode(TransitStepDto.Mode.WALK)
+                        .instruction(joinNames("도보 이동", startName, endName));
+            } else {
+                int route = tt.patternRoute[leg.pattern()];
+                TransitStepDto.Mode mode = mapMode(tt.routeType[route]);
+                label = modeLabel(mode);
+                for (int pos = leg.boardPosition(); pos <= leg.alightPosition(); pos++) {
+                    int stop = tt.stopAt(leg.pattern(), pos);
+                    polyline.append(tt.stopLat[stop], tt.stopLng[stop]);
+                }
+                String lineName = tt.routeName[route];
+                String instruction = label + " 이동";
+                if (lineName != null && !lineName.isBlank()) instruction += " (" + lineName + ")";
+                step.mode(mode)
+                        .instruction(joinNames(instruction, startName, endName))
+                        .lineName(lineName)
+                        .numStops(leg.alightPosition() - leg.boardPosition());
+            }
+            steps.add(step.polyline(polyline.build()).build());
+
+            if (summary.length() > 0) summary.append(" → ");
+            summary.append(label);
+        }
+
+        return TransitSegmentDto.builder()
+                .fromName(fromName).fromLat(fromLat).fromLng(fromLng)
+                .toName(toName).toLat(toLat).toLng(toLng)
+                .distanceMeters(totalDistance)
+                .durationSeconds(journey.arrival() - journey.departure())
+                .fare(baseFare)
+                .summary(summary.toString())
+                .steps(steps)
+                .build();
+    }
+
+    private int legMeters(RaptorRouter.Leg leg) {
+        if (leg.isWalk()) {
+            return (int) Math.round(leg.walkMeters() * params.detourFactor());
+        }
+        GtfsTimetable tt = timetable;
+        double meters = 0;
+        for (int pos = leg.boardPosition(); pos < leg.alightPosition(); pos++) {
+            int a = tt.stopAt(leg.pattern(), pos);
+            int b = tt.stopAt(leg.pattern(), pos + 1);
+            meters += GeoUtils.haversine(tt.stopLat[a], tt.stopLng[a], tt.stopLat[b], tt.stopLng[b]);
+        }
+        return (int) Math.round(meters);
+    }
+
+    private static String joinNames(String instruction, String startName, String endName) {
+        if (startName != null && endName != null && !startName.isBlank() && !endName.isBlank()) {
+            return instruction + " · " + startName + " → " + endName;
+        }
+        return instruction;
+    }
+
+    // GTFS route_type → 내부 enum (0 트램, 1 지하철, 2 철도, 3 버스)
+    private static TransitStepDto.Mode mapMode(int routeType) {
+        return switch (routeType) {
+            case 1 -> TransitStepDto.Mode.SUBWAY;
+            case 0, 2 -> TransitStepDto.Mode.RAIL;
+            default -> TransitStepDto.Mode.BUS;
+        };
+    }
+
+    private static String modeLabel(TransitStepDto.Mode mode) {
+        return switch (mode) {
+            case SUBWAY -> "지하철";
+            case RAIL -> "기차";
+            case WALK -> "도보";
+            default -> "버스";
+        };
+    }
+
+    private static Counter result(MeterRegistry meterRegistry, String result) {
+        return Counter.builder("route.transit.gtfs").tag("result", result).register(meterRegistry);
+    }
+}
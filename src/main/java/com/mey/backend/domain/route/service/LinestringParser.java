@@ -0,0 +1,117 @@
+package com.mey.backend.domain.route.service;
+
+import com.mey.backend.domain.route.dto.PackedPolyline;
+
+/**
+ * TMAP linestring("lon,lat lon,lat ...")을 정규식/중간 문자열 없이 PackedPolyline에 바로 채우는 파서
+ *
+ * 형식이 맞지 않는 좌표 쌍은 건너뜁니다.
+ */
+public final class LinestringParser {
+
+    private static final double[] POW10 = {
+            1e0, 1e1, 1e2, 1e3, 1e4, 1e5, 1e6, 1e7, 1e8, 1e9, 1e10,
+            1e11, 1e12, 1e13, 1e14, 1e15, 1e16, 1e17, 1e18, 1e19, 1e20, 1e21, 1e22
+    };
+    private static final int MAX_EXACT_DIGITS = 15;
+
+    private LinestringParser() {
+    }
+
+    public static PackedPolyline parse(String linestring) {
+        PackedPolyline.Builder builder = PackedPolyline.builder();
+        parseInto(linestring, builder);
+        return builder.build();
+    }
+
+    public static void parseInto(String s, PackedPolyline.Builder out) {
+        if (s == null) {
+            return;
+        }
+        int len = s.length();
+        int i = 0;
+        double[] value = new double[1];
+        while (i < len) {
+            // 공백 건너뛰기
+            while (i < len && isSpace(s.charAt(i))) i++;
+            if (i >= len) break;
+
+            int next = parseNumber(s, i, len, value);
+            if (next > i && next < len && s.charAt(next) == ',') {
+                double lon = value[0];
+                int end = parseNumber(s, next + 1, len, value);
+                if (end > next + 1 && (end == len || isSpace(s.charAt(end)))) {
+                    out.append(value[0], lon);
+                    i = end;
+                    continue;
+                }
+            }
+            // 형식 오류: 다음 공백까지 건너뜀
+            while (i < len && !isSpace(s.charAt(i))) i++;
+        }
+    }
+
+    /**
+     * s[start..]에서 10진수 하나를 읽어 out[0]에 넣고 다음 위치를 반환 (읽지 못하면 start)
+     */
+    static int parseNumber(String s, int start, int len, double[] out) {
+        int i = start;
+        boolean negative = false;
+        if (i < len && (s.charAt(i) == '-' || s.charAt(i) == '+')) {
+            negative = s.charAt(i) == '-';
+            i++;
+        }
+
+        long mantissa = 0;
+        int digits = 0;
+        int fractionDigits = 0;
+        boolean sawDigit = false;
+        boolean inFraction = false;
+        for (; i < len; i++) {
+            char c = s.charAt(i);
+            if (c >= '0' && c <= '9') {
+                sawDigit = true;
+                if (digits < 18) {
+                    mantissa = mantissa * 10 + (c - '0');
+                    if (mantissa != 0) digits++;
+                    if (inFraction) fractionDigits++;
+                } else if (!inFraction) {
+                    return slowParse(s, start, len, out);
+                }
+            } else if (c == '.' && !inFraction) {
+                inFraction = true;
+            } else if (c == 'e' || c == 'E') {
+                return slowParse(s, start, len, out);
+            } else {
+                break;
+            }
+        }
+        if (!sawDigit) {
+            return start;
+        }
+        if (digits > MAX_EXACT_DIGITS || fractionDigits >= POW10.length) {
+            return slowParse(s, start, len, out);
+        }
+
+        // 정수 mantissa와 10의 거듭제곱이 모두 double로 정확하므로 나눗셈 한 번으로 정확히 반올림됨
+        double v = mantissa / POW10[fractionDigits];
+        out[0] = negative ? -v : v;
+        return i;
+    }
+
+    // 자릿수가 많거나 지수 표기인 경우 JDK 파서 사용
+    private static int slowParse(String s, int start, int len, double[] out) {
+        int end = start;
+        while (end < len && !isSpace(s.charAt(end)) && s.charAt(end) != ',') end++;
+        try {
+            out[0] = Double.parseDouble(s.substring(start, end));
+            return end;
+        } catch (NumberFormatException e) {
+            return start;
+        }
+    }
+
+    private static boolean isSpace(char c) {
+        return c == ' ' || c == '\t' || c == '\n' || c == '\r';
+    }
+}
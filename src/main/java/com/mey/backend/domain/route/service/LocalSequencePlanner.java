@@ -0,0 +1,48 @@
+package com.mey.backend.domain.route.service;
+
+import com.mey.backend.domain.route.dto.CoordinateDto;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * 장소 간 비용 행렬(route.planner.objective: 직선거리/소요시간/소요시간+요금) 위에서
+ * 방문 순서를 직접 계산하는 SequencePlanner
+ *
+ * - 12곳 이하: Held-Karp 비트마스크 DP로 최적해
+ * - 그 이상: 최근접 이웃 + 2-opt / Or-opt 지역 탐색
+ * 같은 비용 행렬에는 항상 같은 순서를 반환합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class LocalSequencePlanner implements SequencePlanner {
+
+    private final TravelCostMatrix travelCostMatrix;
+
+    @Override
+    public String name() {
+        return "local";
+    }
+
+    @Override
+    public PlanResult plan(List<CoordinateDto> points) {
+        return plan(points, travelCostMatrix.build(points));
+    }
+
+    @Override
+    public PlanResult plan(List<CoordinateDto> points, double[][] matrix) {
+        long start = System.nanoTime();
+        int[] path = TspSolver.solve(matrix);
+        List<Integer> order = Arrays.stream(path).boxed().toList();
+        int totalMeters = GeoUtils.computeTotalMeters(points, order);
+
+        log.debug("로컬 방문 순서 계산 - 지점 수: {}, 기준: {}, 비용: {}, 총 거리: {}m, 소요: {}µs",
+                points.size(), travelCostMatrix.objective(), Math.round(TspSolver.pathCost(matrix, path)),
+                totalMeters, (System.nanoTime() - start) / 1000);
+        return new PlanResult(order, totalMeters);
+    }
+}
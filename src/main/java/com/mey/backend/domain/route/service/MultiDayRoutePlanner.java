@@ -0,0 +1,200 @@
+package com.mey.backend.domain.route.service;
+
+import com.mey.backend.domain.route.dto.CoordinateDto;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * 여러 날에 걸친 여행 장소를 일자별로 나누고 일자별 방문 순서를 계산
+ *
+ * - 중심점 기준 각도(sweep)로 초기 묶음을 만든 뒤, 일자별 최대 장소 수를 지키는 k-means로 보정
+ * - 일자별 순서 계산은 routeDayPlanningExecutor에서 병렬 실행
+ *   (racing planner가 routePlanningExecutor에 하위 작업을 넣고 기다리므로 같은 풀을 쓰면 일수가 많을 때 서로 막힘)
+ * - 마감 시간 안에 끝나지 않은 일자는 묶음 순서 사용
+ * - 날짜 사이 이동은 총 거리에 포함하지 않음 (숙소 복귀 가정)
+ */
+@Slf4j
+@Component
+public class MultiDayRoutePlanner {
+
+    private static final int MAX_ITERATIONS = 10;
+
+    private final SequencePlannerSelector sequencePlannerSelector;
+    private final ThreadPoolTaskExecutor executor;
+
+    // 모든 일자의 순서 계산에 공통으로 적용되는 마감 시간 (비용 행렬 조회 + 경쟁 마감 시간보다 길게)
+    @Value("${route.planner.multi-day.deadline-ms:6000}")
+    private long deadlineMillis;
+
+    public MultiDayRoutePlanner(SequencePlannerSelector sequencePlannerSelector,
+                                @Qualifier("routeDayPlanningExecutor") ThreadPoolTaskExecutor executor) {
+        this.sequencePlannerSelector = sequencePlannerSelector;
+        this.executor = executor;
+    }
+
+    /**
+     * @param order 전체 방문 순서 (입력 인덱스)
+     * @param dayNumbers order와 같은 위치의 일차 (1부터 시작)
+     * @param totalDistanceMeters 일자별 이동 거리 합
+     */
+    public record MultiDayPlan(List<Integer> order, List<Integer> dayNumbers, int totalDistanceMeters) {}
+
+    public MultiDayPlan plan(List<CoordinateDto> points, int days) {
+        long start = System.nanoTime();
+        int dayCount = Math.max(1, Math.min(days, points.size()));
+        List<List<Integer>> clusters = cluster(points, dayCount);
+
+        List<CompletableFuture<List<Integer>>> futures = clusters.stream()
+                .map(cluster -> CompletableFuture.supplyAsync(() -> solveDay(points, cluster), executor))
+                .toList();
+
+        List<Integer> order = new ArrayList<>(points.size());
+        List<Integer> dayNumbers = new ArrayList<>(points.size());
+        int totalMeters = 0;
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(deadlineMillis);
+        for (int day = 0; day < futures.size(); day++) {
+            List<Integer> dayOrder = awaitDay(futures.get(day), clusters.get(day), deadline);
+            order.addAll(dayOrder);
+            for (int i = 0; i < dayOrder.size(); i++) {
+                dayNumbers.add(day + 1);
+            }
+            totalMeters += GeoUtils.computeTotalMeters(points, dayOrder);
+        }
+
+        log.info("다일 루트 계산 - 장소 수: {}, 일수: {}, 총 거리: {}m, 소요: {}ms",
+                points.size(), dayCount, totalMeters, (System.nanoTime() - start) / 1_000_000);
+        return new MultiDayPlan(order, dayNumbers, totalMeters);
+    }
+
+    // 남은 마감 시간까지 기다리고, 넘기거나 실패하면 묶음 순서 사용
+    private List<Integer> awaitDay(CompletableFuture<List<Integer>> future, List<Integer> cluster, long deadlineNanos) {
+        try {
+            return future.get(Math.max(0, deadlineNanos - System.nanoTime()), TimeUnit.NANOSECONDS);
+        } catch (TimeoutException e) {
+            future.cancel(true);
+            log.warn("일자별 방문 순서 계산 마감 시간 초과 ({}ms), 묶음 순서 사용", deadlineMillis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (Exception e) {
+            log.warn("일자별 방문 순서 계산 실패, 묶음 순서 사용: {}", e.getMessage());
+        }
+        return cluster;
+    }
+
+    // 하루 일정의 방문 순서 계산 (실패 시 묶음 순서 유지)
+    private List<Integer> solveDay(List<CoordinateDto> points, List<Integer> cluster) {
+        if (cluster.size() <= 1) {
+            return cluster;
+        }
+        List<CoordinateDto> dayPoints = cluster.stream().map(points::get).toList();
+        try {
+            SequencePlanner.PlanResult result = sequencePlannerSelector.current().plan(dayPoints);
+            if (SequencePlanner.isValidOrder(result.order(), cluster.size())) {
+                return result.order().stream().map(cluster::get).toList();
+            }
+            log.warn("일자별 방문 순서가 유효하지 않음, 묶음 순서 사용");
+        } catch (Exception e) {
+            log.warn("일자별 방문 순서 계산 실패, 묶음 순서 사용: {}", e.getMessage());
+        }
+        return cluster;
+    }
+
+    /**
+     * 일자별 최대 장소 수(ceil(n / days))를 지키며 가까운 장소끼리 묶습니다.
+     */
+    List<List<Integer>> cluster(List<CoordinateDto> points, int dayCount) {
+        int n = points.size();
+        int capacity = (n + dayCount - 1) / dayCount;
+
+        // 1) 중심점 기준 각도 순으로 정렬해 초기 묶음 구성
+        double centerLat = points.stream().mapToDouble(CoordinateDto::getLat).average().orElse(0);
+        double centerLng = points.stream().mapToDouble(CoordinateDto::getLng).average().orElse(0);
+        double lngScale = Math.cos(Math.toRadians(centerLat));
+        Integer[] byAngle = new Integer[n];
+        for (int i = 0; i < n; i++) byAngle[i] = i;
+        Arrays.sort(byAngle, Comparator.<Integer>comparingDouble(i -> Math.atan2(
+                points.get(i).getLat() - centerLat,
+                (points.get(i).getLng() - centerLng) * lngScale)).thenComparingInt(i -> i));
+
+        int[] assignment = new int[n];
+        int base = n / dayCount;
+        int extra = n % dayCount;
+        int pos = 0;
+        for (int day = 0; day < dayCount; day++) {
+            int size = base + (day < extra ? 1 : 0);
+            for (int j = 0; j < size; j++) {
+                assignment[byAngle[pos++]] = day;
+            }
+        }
+
+        // 2) 용량 제한 k-means: 중심점과 가까운 (장소, 일자) 쌍부터 배정
+        for (int iter = 0; iter < MAX_ITERATIONS; iter++) {
+            double[][] centers = centers(points, assignment, dayCount);
+
+            List<double[]> pairs = new ArrayList<>(n * dayCount);
+            for (int i = 0; i < n; i++) {
+                CoordinateDto p = points.get(i);
+                for (int day = 0; day < dayCount; day++) {
+                    pairs.add(new double[]{GeoUtils.haversine(p.getLat(), p.getLng(), centers[day][0], centers[day][1]), i, day});
+                }
+            }
+            pairs.sort(Comparator.<double[]>comparingDouble(pair -> pair[0])
+                    .thenComparingDouble(pair -> pair[1])
+                    .thenComparingDouble(pair -> pair[2]));
+
+            int[] next = new int[n];
+            Arrays.fill(next, -1);
+            int[] sizes = new int[dayCount];
+            for (double[] pair : pairs) {
+                int i = (int) pair[1];
+                int day = (int) pair[2];
+                if (next[i] < 0 && sizes[day] < capacity) {
+                    next[i] = day;
+                    sizes[day]++;
+                }
+            }
+
+            // 빈 일자가 생기면 이전 배정 유지
+            if (Arrays.stream(sizes).anyMatch(size -> size == 0) || Arrays.equals(next, assignment)) {
+                break;
+            }
+            assignment = next;
+        }
+
+        List<List<Integer>> clusters = new ArrayList<>(dayCount);
+        for (int day = 0; day < dayCount; day++) {
+            clusters.add(new ArrayList<>());
+        }
+        for (int i = 0; i < n; i++) {
+            clusters.get(assignment[i]).add(i);
+        }
+        return clusters;
+    }
+
+    private static double[][] centers(List<CoordinateDto> points, int[] assignment, int dayCount) {
+        double[][] sums = new double[dayCount][3];
+        for (int i = 0; i < assignment.length; i++) {
+            sums[assignment[i]][0] += points.get(i).getLat();
+            sums[assignment[i]][1] += points.get(i).getLng();
+            sums[assignment[i]][2]++;
+        }
+        double[][] centers = new double[dayCount][2];
+        for (int day = 0; day < dayCount; day++) {
+            double count = Math.max(1, sums[day][2]);
+            centers[day][0] = sums[day][0] / count;
+            centers[day][1] = sums[day][1] / count;
+        }
+        return centers;
+    }
+}
@@ -0,0 +1,93 @@
+package com.mey.backend.domain.route.service;
+
+import java.time.DayOfWeek;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Place.openingHours(JSON 맵)를 요일별 영업 구간 배열로 변환한 값
+ *
+ * 요일별로 {열림, 닫힘, 열림, 닫힘, ...} (자정 기준 분) 형태의 int 배열을 보관합니다.
+ * - "09:00-18:00", "11:00-02:00"(익일 마감), 쉼표로 나뉜 여러 구간
+ * - "상시 개방", "24시간" → 하루 전체
+ * - "closed", "휴무" → 빈 배열
+ * - 형식을 알 수 없는 값이나 누락된 요일은 하루 전체 영업으로 간주
+ */
+public final class OpeningHours {
+
+    public static final int DAY_MINUTES = 24 * 60;
+
+    private static final Pattern RANGE = Pattern.compile("(\\d{1,2}):(\\d{2})\\s*[-~]\\s*(\\d{1,2}):(\\d{2})");
+    private static final int[] ALL_DAY = {0, DAY_MINUTES};
+    private static final int[] CLOSED = {};
+
+    public static final OpeningHours ALWAYS_OPEN = new OpeningHours(new int[][]{
+            ALL_DAY, ALL_DAY, ALL_DAY, ALL_DAY, ALL_DAY, ALL_DAY, ALL_DAY});
+
+    private final int[][] windows; // [DayOfWeek.ordinal()] → 구간 배열
+
+    private OpeningHours(int[][] windows) {
+        this.windows = windows;
+    }
+
+    public static OpeningHours parse(Map<String, String> raw) {
+        if (raw == null || raw.isEmpty()) {
+            return ALWAYS_OPEN;
+        }
+        int[][] windows = new int[7][];
+        for (DayOfWeek day : DayOfWeek.values()) {
+            windows[day.ordinal()] = parseDay(raw.get(day.name().toLowerCase()));
+        }
+        return new OpeningHours(windows);
+    }
+
+    static int[] parseDay(String value) {
+        if (value == null || value.isBlank()) {
+            return ALL_DAY;
+        }
+        String v = value.trim().toLowerCase();
+        if (v.contains("closed") || v.contains("휴무") || v.contains("휴관")) {
+            return CLOSED;
+        }
+        if (v.contains("상시") || v.contains("24시간") || v.contains("24h")) {
+            return ALL_DAY;
+        }
+
+        List<Integer> bounds = new ArrayList<>();
+        Matcher m = RANGE.matcher(v);
+        while (m.find()) {
+            int open = Integer.parseInt(m.group(1)) * 60 + Integer.parseInt(m.group(2));
+            int close = Integer.parseInt(m.group(3)) * 60 + Integer.parseInt(m.group(4));
+            if (close <= open) {
+                close += DAY_MINUTES; // 익일 마감
+            }
+            bounds.add(open);
+            bounds.add(close);
+        }
+        if (bounds.isEmpty()) {
+            return ALL_DAY;
+        }
+        return bounds.stream().mapToInt(Integer::intValue).toArray();
+    }
+
+    /**
+     * arrival 이후 duration분 동안 머물 수 있는 가장 이른 시작 시각(분), 없으면 -1
+     */
+    public int earliestStart(DayOfWeek day, int arrival, int duration) {
+        int[] w = windows[day.ordinal()];
+        for (int i = 0; i + 1 < w.length; i += 2) {
+            int start = Math.max(arrival, w[i]);
+            if (start + duration <= w[i + 1]) {
+                return start;
+            }
+        }
+        return -1;
+    }
+
+    public boolean isClosedAllDay(DayOfWeek day) {
+        return windows[day.ordinal()].length == 0;
+    }
+}
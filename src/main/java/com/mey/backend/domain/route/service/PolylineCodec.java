@@ -0,0 +1,121 @@
+package com.mey.backend.domain.route.service;
+
+import com.mey.backend.domain.route.dto.PackedPolyline;
+
+/**
+ * 폴리라인 단순화(Douglas-Peucker)와 Google encoded polyline 인코딩 유틸리티
+ */
+public final class PolylineCodec {
+
+    private static final double PRECISION = 1e5;
+    private static final double METERS_PER_DEGREE = 111_319.49;
+    private static final double EQUATOR_METERS_PER_PIXEL = 156_543.03392; // 줌 0, 256px 타일 기준
+    private static final int MAX_ZOOM = 22;
+
+    private PolylineCodec() {
+    }
+
+    /**
+     * 줌 레벨에서 1픽셀에 해당하는 거리(미터)
+     */
+    public static double toleranceForZoom(int zoom, double lat) {
+        int z = Math.max(0, Math.min(MAX_ZOOM, zoom));
+        return EQUATOR_METERS_PER_PIXEL * Math.cos(Math.toRadians(lat)) / (1L << z);
+    }
+
+    /**
+     * Douglas-Peucker 단순화, 시작/끝 점은 항상 유지
+     *
+     * @param toleranceMeters 허용 오차(미터), 0 이하이면 원본 반환
+     */
+    public static PackedPolyline simplify(PackedPolyline line, double toleranceMeters) {
+        int n = line.size();
+        if (n <= 2 || toleranceMeters <= 0) {
+            return line;
+        }
+
+        // 첫 점 위도 기준 등장방형 투영으로 평면 좌표(미터) 계산
+        double kx = METERS_PER_DEGREE * Math.cos(Math.toRadians(line.lat(0)));
+        double[] x = new double[n];
+        double[] y = new double[n];
+        for (int i = 0; i < n; i++) {
+            x[i] = line.lng(i) * kx;
+            y[i] = line.lat(i) * METERS_PER_DEGREE;
+        }
+
+        boolean[] keep = new boolean[n];
+        keep[0] = true;
+        keep[n - 1] = true;
+        double toleranceSq = toleranceMeters * toleranceMeters;
+
+        int[] stack = new int[2 * n];
+        int top = 0;
+        stack[top++] = 0;
+        stack[top++] = n - 1;
+        while (top > 0) {
+            int last = stack[--top];
+            int first = stack[--top];
+            int index = -1;
+            double maxSq = toleranceSq;
+            for (int i = first + 1; i < last; i++) {
+                double d = segmentDistanceSq(x[i], y[i], x[first], y[first], x[last], y[last]);
+                if (d > maxSq) {
+                    maxSq = d;
+                    index = i;
+                }
+            }
+            if (index >= 0) {
+                keep[index] = true;
+                stack[top++] = first;
+                stack[top++] = index;
+                stack[top++] = index;
+                stack[top++] = last;
+            }
+        }
+
+        PackedPolyline.Builder builder = PackedPolyline.builder();
+        for (int i = 0; i < n; i++) {
+            if (keep[i]) builder.append(line.lat(i), line.lng(i));
+        }
+        return builder.build();
+    }
+
+    /**
+     * Google encoded polyline 알고리즘 (위도, 경도 순서, 정밀도 1e-5)
+     */
+    public static String encode(PackedPolyline line) {
+        StringBuilder sb = new StringBuilder(line.size() * 8);
+        long prevLat = 0;
+        long prevLng = 0;
+        for (int i = 0; i < line.size(); i++) {
+            long lat = Math.round(line.lat(i) * PRECISION);
+            long lng = Math.round(line.lng(i) * PRECISION);
+            encodeValue(lat - prevLat, sb);
+            encodeValue(lng - prevLng, sb);
+            prevLat = lat;
+            prevLng = lng;
+        }
+        return sb.toString();
+    }
+
+    private static void encodeValue(long delta, StringBuilder sb) {
+        long v = delta < 0 ? ~(delta << 1) : delta << 1;
+        while (v >= 0x20) {
+            sb.append((char) ((0x20 | (v & 0x1f)) + 63));
+            v >>= 5;
+        }
+        sb.append((char) (v + 63));
+    }
+
+    // 점 p와 선분 ab 사이 거리의 제곱
+    private static double segmentDistanceSq(double px, double py, double ax, double ay, double bx, double by) {
+        double dx = bx - ax;
+        double dy = by - ay;
+        double lenSq = dx * dx + dy * dy;
+        double t = lenSq == 0 ? 0 : ((px - ax) * dx + (py - ay) * dy) / lenSq;
+        t = Math.max(0, Math.min(1, t));
+        double ex = px - (ax + t * dx);
+        double ey = py - (ay + t * dy);
+        return ex * ex + ey * ey;
+    }
+}
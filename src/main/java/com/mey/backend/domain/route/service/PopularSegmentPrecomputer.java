@@ -0,0 +1,198 @@
+package com.mey.backend.domain.route.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.mey.backend.domain.route.dto.TransitSegmentDto;
+import com.mey.backend.domain.route.entity.PrecomputedSegment;
+import com.mey.backend.domain.route.entity.Route;
+import com.mey.backend.domain.route.entity.RoutePlace;
+import com.mey.backend.domain.route.entity.RouteType;
+import com.mey.backend.domain.route.entity.TimeBucket;
+import com.mey.backend.domain.route.repository.PrecomputedSegmentRepository;
+import com.mey.backend.domain.route.repository.RoutePlaceRepository;
+import com.mey.backend.domain.route.repository.RouteRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 인기(POPULAR) 루트의 장소 간 구간을 시간대별로 미리 계산해 두는 클래스
+ *
+ * - 고정된 인기 루트의 연속 장소 쌍을 모아(중복 제거) 시간대마다 대표 시각 기준으로 조회
+ * - 배치 스레드에서 한 구간씩 순서대로 조회 (실시간 요청용 조회 풀과 요청 마감 시간을 쓰지 않음)
+ * - 추정(폴백) 구간은 저장하지 않음
+ * - 이번 실행에서 갱신되지 않은 행(인기 루트에서 빠진 쌍 등)은 실행 후 삭제, max-age보다 오래된 행은 조회 시 무시
+ * - 루트 시작 시에는 저장된 구간을 쓰고, 현재 위치 → 첫 장소 구간과 누락 구간만 실시간 조회
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PopularSegmentPrecomputer {
+
+    private final RouteRepository routeRepository;
+    private final RoutePlaceRepository routePlaceRepository;
+    private final PrecomputedSegmentRepository precomputedSegmentRepository;
+    private final TransitClient transitClient;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${route.precompute.enabled:true}")
+    private boolean enabled;
+
+    @Value("${route.precompute.run-on-startup:false}")
+    private boolean runOnStartup;
+
+    // 사전 계산은 하루 한 번 실행되므로 실패가 한 번 이어져도 쓸 수 있도록 여유를 둠
+    @Value("${route.precompute.max-age:P2D}")
+    private Duration maxAge;
+
+    private final AtomicBoolean running = new AtomicBoolean();
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onStartup() {
+        if (enabled && runOnStartup) {
+            precomputeAll();
+        }
+    }
+
+    @Scheduled(cron = "${route.precompute.cron:0 30 4 * * *}")
+    public void scheduledPrecompute() {
+        if (enabled) {
+            precomputeAll();
+        }
+    }
+
+    /**
+     * 모든 인기 루트의 장소 간 구간을 시간대별로 다시 계산해 저장합니다.
+     */
+    public void precomputeAll() {
+        if (!running.compareAndSet(false, true)) {
+            log.info("인기 루트 구간 사전 계산이 이미 진행 중입니다.");
+            return;
+        }
+        try {
+            LocalDateTime startedAt = LocalDateTime.now();
+            List<TransitLegFetcher.Leg> legs = transactionTemplate.execute(status -> popularRouteLegs());
+            if (legs == null || legs.isEmpty()) {
+                return;
+            }
+            int saved = 0;
+            for (TimeBucket bucket : TimeBucket.values()) {
+                LocalDateTime departureTime = bucket.nextRepresentativeTime();
+                for (TransitLegFetcher.Leg leg : legs) {
+                    TransitSegmentDto segment = fetch(leg, departureTime);
+                    if (segment != null && !segment.isEstimated() && save(leg, bucket, segment)) {
+                        saved++;
+                    }
+                }
+            }
+            long pruned = saved > 0 ? prune(startedAt) : 0; // 전부 실패한 실행(외부 API 장애 등)이면 기존 값 유지
+            log.info("인기 루트 구간 사전 계산 완료 - 장소 쌍 {}개, 저장 {}건, 삭제 {}건", legs.size(), saved, pruned);
+        } finally {
+            running.set(false);
+        }
+    }
+
+    /**
+     * 저장된 구간을 legs 순서대로 반환합니다. 없는 구간은 null
+     */
+    public List<TransitSegmentDto> find(List<TransitLegFetcher.Leg> legs, TimeBucket bucket) {
+        List<TransitSegmentDto> result = new ArrayList<>(legs.size());
+        if (legs.isEmpty()) {
+            return result;
+        }
+        Map<String, PrecomputedSegment> stored = new HashMap<>();
+        List<Long> fromIds = legs.stream().map(TransitLegFetcher.Leg::fromPlaceId).distinct().toList();
+        LocalDateTime oldest = LocalDateTime.now().minus(maxAge);
+        for (PrecomputedSegment s : precomputedSegmentRepository.findByTimeBucketAndFromPlaceIdIn(bucket, fromIds)) {
+            if (s.getFetchedAt().isBefore(oldest)) continue;
+            stored.put(pairKey(s.getFromPlaceId(), s.getToPlaceId()), s);
+        }
+        for (TransitLegFetcher.Leg leg : legs) {
+            PrecomputedSegment s = stored.get(pairKey(leg.fromPlaceId(), leg.toPlaceId()));
+            result.add(s != null ? read(s) : null);
+        }
+        return result;
+    }
+
+    // 인기 루트의 연속 장소 쌍 (중복 제거)
+    private List<TransitLegFetcher.Leg> popularRouteLegs() {
+        Map<String, TransitLegFetcher.Leg> legs = new LinkedHashMap<>();
+        for (Route route : routeRepository.findByRouteType(RouteType.POPULAR)) {
+            List<RoutePlace> places = routePlaceRepository.findByRouteIdOrderByVisitOrder(route.getId());
+            for (int i = 0; i < places.size() - 1; i++) {
+                TransitLegFetcher.Leg leg = TransitLegFetcher.Leg.between(places.get(i).getPlace(), places.get(i + 1).getPlace());
+                legs.putIfAbsent(pairKey(leg.fromPlaceId(), leg.toPlaceId()), leg);
+            }
+        }
+        return new ArrayList<>(legs.values());
+    }
+
+    // 호출당 시간 제한/서킷 브레이커/쿼터는 TransitClient 체인이 적용, 실패한 구간은 건너뜀
+    private TransitSegmentDto fetch(TransitLegFetcher.Leg leg, LocalDateTime departureTime) {
+        try {
+            return transitClient.route(leg.fromName(), leg.fromLat(), leg.fromLng(),
+                    leg.toName(), leg.toLat(), leg.toLng(), departureTime);
+        } catch (Exception e) {
+            log.warn("구간 사전 계산 실패 - {} → {}: {}", leg.fromPlaceId(), leg.toPlaceId(), e.getMessage());
+            return null;
+        }
+    }
+
+    // 이번 실행에서 갱신되지 않은 행 삭제
+    private long prune(LocalDateTime startedAt) {
+        Long deleted = transactionTemplate.execute(status -> precomputedSegmentRepository.deleteByFetchedAtBefore(startedAt));
+        return deleted != null ? deleted : 0;
+    }
+
+    private boolean save(TransitLegFetcher.Leg leg, TimeBucket bucket, TransitSegmentDto segment) {
+        String json;
+        try {
+            json = objectMapper.writeValueAsString(segment);
+        } catch (JsonProcessingException e) {
+            log.warn("구간 직렬화 실패 - {} → {}: {}", leg.fromPlaceId(), leg.toPlaceId(), e.getMessage());
+            return false;
+        }
+        LocalDateTime now = LocalDateTime.now();
+        transactionTemplate.executeWithoutResult(status -> {
+            PrecomputedSegment entity = precomputedSegmentRepository
+                    .findByFromPlaceIdAndToPlaceIdAndTimeBucket(leg.fromPlaceId(), leg.toPlaceId(), bucket)
+                    .orElseGet(() -> PrecomputedSegment.builder()
+                            .fromPlaceId(leg.fromPlaceId())
+                            .toPlaceId(leg.toPlaceId())
+                            .timeBucket(bucket)
+                            .build());
+            entity.setSegmentJson(json);
+            entity.setFetchedAt(now);
+            precomputedSegmentRepository.save(entity);
+        });
+        return true;
+    }
+
+    private TransitSegmentDto read(PrecomputedSegment stored) {
+        try {
+            return objectMapper.readValue(stored.getSegmentJson(), TransitSegmentDto.class);
+        } catch (JsonProcessingException e) {
+            log.warn("저장된 구간 역직렬화 실패 - id {}: {}", stored.getId(), e.getMessage());
+            return null;
+        }
+    }
+
+    private static String pairKey(Long fromPlaceId, Long toPlaceId) {
+        return fromPlaceId + ":" + toPlaceId;
+    }
+}
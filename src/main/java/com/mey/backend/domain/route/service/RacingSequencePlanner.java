@@ -0,0 +1,136 @@
+package com.mey.backend.domain.route.service;
+
+import com.mey.backend.domain.route.dto.CoordinateDto;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.stream.IntStream;
+
+/**
+ * 여러 SequencePlanner를 병렬로 실행하고 마감 시간 안에 나온 결과 중 가장 짧은 순서를 선택
+ *
+ * - 비용 행렬(route.planner.objective)은 경쟁 전에 한 번만 만들어 모든 planner와 채점에 공유
+ * - 각 결과는 유효한 순열인지 검증한 뒤 같은 비용 행렬로 다시 채점
+ * - 마감 시간이 지나면 그때까지 완료된 결과만 비교
+ * - 승자와 2위와의 비용 차이를 메트릭으로 기록
+ */
+@Slf4j
+@Component
+public class RacingSequencePlanner implements SequencePlanner {
+
+    private final List<SequencePlanner> planners;
+    private final ThreadPoolTaskExecutor executor;
+    private final ThreadPoolTaskExecutor ioExecutor;
+    private final MeterRegistry meterRegistry;
+    private final TravelCostMatrix travelCostMatrix;
+
+    @Value("${route.planner.racing.candidates:local,gpt}")
+    private List<String> candidates;
+
+    @Value("${route.planner.racing.deadline-ms:3000}")
+    private long deadlineMillis;
+
+    public RacingSequencePlanner(List<SequencePlanner> planners,
+                                 @Qualifier("routePlanningExecutor") ThreadPoolTaskExecutor executor,
+                                 @Qualifier("routePlanningIoExecutor") ThreadPoolTaskExecutor ioExecutor,
+                                 MeterRegistry meterRegistry,
+                                 TravelCostMatrix travelCostMatrix) {
+        this.planners = planners;
+        this.executor = executor;
+        this.ioExecutor = ioExecutor;
+        this.meterRegistry = meterRegistry;
+        this.travelCostMatrix = travelCostMatrix;
+    }
+
+    @Override
+    public String name() {
+        return "racing";
+    }
+
+    @Override
+    public PlanResult plan(List<CoordinateDto> points) {
+        return plan(points, travelCostMatrix.build(points));
+    }
+
+    @Override
+    public PlanResult plan(List<CoordinateDto> points, double[][] cost) {
+        Map<String, CompletableFuture<PlanResult>> running = new LinkedHashMap<>();
+        for (SequencePlanner planner : planners) {
+            if (planner == this || !candidates.contains(planner.name())) continue;
+            // cancel()은 supplyAsync 작업을 중단시키지 못하므로 외부 호출 planner는 CPU 풀과 분리된 I/O 풀에서 실행
+            ThreadPoolTaskExecutor target = planner.ioBound() ? ioExecutor : executor;
+            try {
+                running.put(planner.name(), CompletableFuture.supplyAsync(() -> planner.plan(points, cost), target));
+            } catch (RejectedExecutionException e) {
+                log.debug("planner '{}' 실행 풀 포화, 이번 경쟁에서 제외", planner.name());
+            }
+        }
+
+        try {
+            CompletableFuture.allOf(running.values().toArray(CompletableFuture[]::new))
+                    .get(deadlineMillis, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            log.debug("planner 경쟁 마감 시간 초과 ({}ms), 완료된 결과만 비교", deadlineMillis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (Exception e) {
+            // 개별 planner 실패는 아래에서 결과별로 걸러냄
+        }
+
+        List<Entry> valid = new ArrayList<>();
+        running.forEach((name, future) -> {
+            if (!future.isDone() || future.isCompletedExceptionally()) {
+                future.cancel(true);
+                return;
+            }
+            PlanResult result = future.join();
+            if (result != null && SequencePlanner.isValidOrder(result.order(), points.size())) {
+                double score = TspSolver.pathCost(cost, result.order().stream().mapToInt(Integer::intValue).toArray());
+                valid.add(new Entry(name, result.order(), score, GeoUtils.computeTotalMeters(points, result.order())));
+            } else {
+                log.warn("planner '{}' 결과가 유효한 순열이 아님", name);
+            }
+        });
+
+        if (valid.isEmpty()) {
+            log.warn("마감 시간 안에 유효한 방문 순서 없음, 입력 순서 사용");
+            List<Integer> identity = IntStream.range(0, points.size()).boxed().toList();
+            return new PlanResult(identity, GeoUtils.computeTotalMeters(points, identity));
+        }
+
+        valid.sort(Comparator.comparingDouble(Entry::score));
+        Entry winner = valid.get(0);
+        double margin = valid.size() > 1 ? valid.get(1).score() - winner.score() : 0;
+        String objective = travelCostMatrix.objective().name().toLowerCase();
+
+        Counter.builder("route.planner.race.wins").tag("planner", winner.name())
+                .register(meterRegistry).increment();
+        // distance: 미터, duration/blended: 초
+        DistributionSummary.builder("route.planner.race.margin")
+                .tag("planner", winner.name())
+                .tag("objective", objective)
+                .register(meterRegistry).record(margin);
+        log.info("planner 경쟁 결과 - 승자: {}, 기준: {}, 비용: {}, 2위와 차이: {}, 총 거리: {}m, 완료: {}/{}",
+                winner.name(), objective, Math.round(winner.score()), Math.round(margin),
+                winner.totalMeters(), valid.size(), running.size());
+
+        return new PlanResult(winner.order(), winner.totalMeters());
+    }
+
+    private record Entry(String name, List<Integer> order, double score, int totalMeters) {}
+}
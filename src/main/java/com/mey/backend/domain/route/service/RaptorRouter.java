@@ -0,0 +1,273 @@
+package com.mey.backend.domain.route.service;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * GtfsTimetable 위에서 동작하는 RAPTOR(Round-bAsed Public Transit Optimized Router) 탐색기
+ *
+ * - 라운드 k = 탑승 횟수 k, 라운드마다 직전 라운드에서 개선된 정류장을 지나는 패턴만 스캔
+ * - 출발지/도착지에서 반경 내 정류장까지는 도보 접근
+ * - 가장 이른 도착 시각의 여정을 반환하고, 같으면 환승이 적은 여정을 선택
+ */
+final class RaptorRouter {
+
+    private static final int INF = Integer.MAX_VALUE;
+
+    private static final byte NONE = 0;
+    private static final byte ACCESS = 1;
+    private static final byte TRANSIT = 2;
+    private static final byte TRANSFER = 3;
+    private static final byte KEEP = 4; // 직전 라운드 값 유지
+
+    /**
+     * 탐색 파라미터
+     *
+     * @param maxRides     최대 탑승 횟수
+     * @param accessMeters 출발/도착지와 정류장 사이 최대 도보 거리
+     */
+    record Params(int maxRides, double accessMeters, double detourFactor, double walkSpeedMps) {
+    }
+
+    /**
+     * 여정 구간. 도보 구간은 pattern = -1, 출발지/도착지는 정류장 번호 -1
+     */
+    record Leg(int fromStop, int toStop, int departure, int arrival,
+               int pattern, int trip, int boardPosition, int alightPosition, int walkMeters) {
+        boolean isWalk() {
+            return pattern < 0;
+        }
+    }
+
+    record Journey(int departure, int arrival, List<Leg> legs) {
+        int rides() {
+            return (int) legs.stream().filter(l -> !l.isWalk()).count();
+        }
+    }
+
+    private final GtfsTimetable tt;
+
+    RaptorRouter(GtfsTimetable timetable) {
+        this.tt = timetable;
+    }
+
+    /**
+     * @param departure 서비스일 자정 기준 출발 시각(초)
+     * @param date      서비스일 (yyyymmdd)
+     * @param dayBit    요일 비트 (월=1, 화=2, ... 일=64)
+     * @return 대중교통을 한 번 이상 타는 가장 빠른 여정, 없으면 null
+     */
+    Journey search(double fromLat, double fromLng, double toLat, double toLng,
+                   int departure, int date, int dayBit, Params params) {
+        int n = tt.stopCount;
+        int rounds = params.maxRides() + 1;
+
+        GtfsTimetable.IntList accessStops = new GtfsTimetable.IntList(32);
+        GtfsTimetable.IntList accessMeters = new GtfsTimetable.IntList(32);
+        GtfsTimetable.IntList egressStops = new GtfsTimetable.IntList(32);
+        GtfsTimetable.IntList egressMeters = new GtfsTimetable.IntList(32);
+        tt.nearby(fromLat, fromLng, params.accessMeters(), accessStops, accessMeters);
+        tt.nearby(toLat, toLng, params.accessMeters(), egressStops, egressMeters);
+        if (accessStops.size() == 0 || egressStops.size() == 0) {
+            return null;
+        }
+
+        int[][] tau = new int[rounds][n];
+        byte[][] kind = new byte[rounds][n];
+        int[][] refPattern = new int[rounds][];
+        int[][] refTrip = new int[rounds][];
+        int[][] refBoard = new int[rounds][];
+        int[][] refAlight = new int[rounds][];
+        int[] best = new int[n];
+        Arrays.fill(best, INF);
+        for (int[] row : tau) Arrays.fill(row, INF);
+
+        boolean[] marked = new boolean[n];
+        int[] accessMetersByStop = new int[n];
+        for (int i = 0; i < accessStops.size(); i++) {
+            int s = accessStops.get(i);
+            int t = departure + GtfsTimetable.walkSeconds(accessMeters.get(i), params.detourFactor(), params.walkSpeedMps());
+            if (t < tau[0][s]) {
+                tau[0][s] = t;
+                best[s] = t;
+                kind[0][s] = ACCESS;
+                accessMetersByStop[s] = accessMeters.get(i);
+                marked[s] = true;
+            }
+        }
+
+        int[] queuedPosition = new int[tt.patternCount];
+        Arrays.fill(queuedPosition, -1);
+        GtfsTimetable.IntList queue = new GtfsTimetable.IntList(256);
+        GtfsTimetable.IntList improved = new GtfsTimetable.IntList(256);
+
+        for (int k = 1; k < rounds; k++) {
+            System.arraycopy(tau[k - 1], 0, tau[k], 0, n);
+            Arrays.fill(kind[k], KEEP);
+            refPattern[k] = new int[n];
+            refTrip[k] = new int[n];
+            refBoard[k] = new int[n];
+            refAlight[k] = new int[n];
+
+            // 개선된 정류장을 지나는 패턴과 가장 앞 위치 수집
+            queue.clear();
+            for (int s = 0; s < n; s++) {
+                if (!marked[s]) continue;
+                marked[s] = false;
+                for (int i = tt.stopPatternOffset[s]; i < tt.stopPatternOffset[s + 1]; i++) {
+                    int p = tt.stopPatterns[i];
+                    int pos = tt.stopPatternPositions[i];
+                    if (queuedPosition[p] < 0) {
+                        queue.add(p);
+                        queuedPosition[p] = pos;
+                    } else if (pos < queuedPosition[p]) {
+                        queuedPosition[p] = pos;
+                    }
+                }
+            }
+            if (queue.size() == 0) break;
+
+            improved.clear();
+            for (int qi = 0; qi < queue.size(); qi++) {
+                int p = queue.get(qi);
+                int startPos = queuedPosition[p];
+                queuedPosition[p] = -1;
+
+                int len = tt.patternLength(p);
+                int trip = -1;
+                int boardPos = -1;
+                for (int pos = startPos; pos < len; pos++) {
+                    int stop = tt.stopAt(p, pos);
+                    if (trip >= 0) {
+                        int arr = tt.arrival(p, trip, pos);
+                        if (arr < best[stop]) {
+                            tau[k][stop] = arr;
+                            best[stop] = arr;
+                            kind[k][stop] = TRANSIT;
+                            refPattern[k][stop] = p;
+                            refTrip[k][stop] = trip;
+                            refBoard[k][stop] = boardPos;
+                            refAlight[k][stop] = pos;
+                            if (!marked[stop]) {
+                                marked[stop] = true;
+                                improved.add(stop);
+                            }
+                        }
+                    }
+                    int ready = tau[k - 1][stop];
+                    if (ready != INF && (trip < 0 || ready <= tt.departure(p, trip, pos))) {
+                        int candidate = earliestTrip(p, pos, ready, trip < 0 ? tt.tripCount(p) : trip, date, dayBit);
+                        if (candidate >= 0) {
+                            trip = candidate;
+                            boardPos = pos;
+                        }
+                    }
+                }
+            }
+
+            // 이번 라운드에 탑승으로 개선된 정류장에서 도보 환승
+            int improvedByTransit = improved.size();
+            for (int i = 0; i < improvedByTransit; i++) {
+                int s = improved.get(i);
+                for (int j = tt.transferOffset[s]; j < tt.transferOffset[s + 1]; j++) {
+                    int to = tt.transferTo[j];
+                    int t = tau[k][s] + tt.transferSeconds[j];
+                    if (t < best[to]) {
+                        tau[k][to] = t;
+                        best[to] = t;
+                        kind[k][to] = TRANSFER;
+                        refPattern[k][to] = s; // 환승 출발 정류장
+                        if (!marked[to]) {
+                            marked[to] = true;
+                            improved.add(to);
+                        }
+                    }
+                }
+            }
+            if (improved.size() == 0) break;
+        }
+
+        // 도착지 도보 포함 최선 선택 (탑승 1회 이상)
+        int bestArrival = INF;
+        int bestRound = -1;
+        int bestStop = -1;
+        int bestEgress = 0;
+        for (int k = 1; k < rounds; k++) {
+            for (int i = 0; i < egressStops.size(); i++) {
+                int s = egressStops.get(i);
+                if (tau[k][s] == INF || labelRound(kind, k, s) == 0) continue; // 도보 접근만으로 도달한 정류장 제외
+                int arrival = tau[k][s] + GtfsTimetable.walkSeconds(egressMeters.get(i), params.detourFactor(), params.walkSpeedMps());
+                if (arrival < bestArrival) {
+                    bestArrival = arrival;
+                    bestRound = k;
+                    bestStop = s;
+                    bestEgress = egressMeters.get(i);
+                }
+            }
+        }
+        if (bestRound < 0) {
+            return null;
+        }
+
+        List<Leg> legs = new ArrayList<>();
+        legs.add(new Leg(bestStop, -1, tau[bestRound][bestStop], bestArrival, -1, -1, -1, -1, bestEgress));
+        int k = bestRound;
+        int s = bestStop;
+        boolean rode = false;
+        while (true) {
+            byte type = kind[k][s];
+            if (type == KEEP) {
+                k--;
+            } else if (type == TRANSFER) {
+                int from = refPattern[k][s];
+                int meters = GeoUtils.haversineMeters(tt.stopLat[from], tt.stopLng[from], tt.stopLat[s], tt.stopLng[s]);
+                legs.add(new Leg(from, s, tau[k][from], tau[k][s], -1, -1, -1, -1, meters));
+                s = from;
+            } else if (type == TRANSIT) {
+                int p = refPattern[k][s];
+                int trip = refTrip[k][s];
+                int board = refBoard[k][s];
+                int alight = refAlight[k][s];
+                int boardStop = tt.stopAt(p, board);
+                legs.add(new Leg(boardStop, s, tt.departure(p, trip, board), tt.arrival(p, trip, alight),
+                        p, trip, board, alight, 0));
+                rode = true;
+                s = boardStop;
+                k--;
+            } else if (type == ACCESS) {
+                legs.add(new Leg(-1, s, departure, tau[0][s], -1, -1, -1, -1, accessMetersByStop[s]));
+                break;
+            } else {
+                return null;
+            }
+        }
+        if (!rode) {
+            return null;
+        }
+        Collections.reverse(legs);
+        return new Journey(departure, bestArrival, legs);
+    }
+
+    // KEEP을 따라 내려가 값이 실제로 기록된 라운드
+    private static int labelRound(byte[][] kind, int k, int s) {
+        while (k > 0 && kind[k][s] == KEEP) k--;
+        return k;
+    }
+
+    // 위치 pos에서 ready 이후 출발하는 운행 trip 중 가장 이른 것 (upper 미만에서 탐색)
+    private int earliestTrip(int p, int pos, int ready, int upper, int date, int dayBit) {
+        int lo = 0;
+        int hi = upper;
+        while (lo < hi) {
+            int mid = (lo + hi) >>> 1;
+            if (tt.departure(p, mid, pos) < ready) lo = mid + 1;
+            else hi = mid;
+        }
+        for (int t = lo; t < upper; t++) {
+            if (tt.departure(p, t, pos) >= ready && tt.isActive(p, t, date, dayBit)) return t;
+        }
+        return -1;
+    }
+}
@@ -0,0 +1,381 @@
+package com.mey.backend.domain.route.service;
+
+import com.mey.backend.domain.route.dto.TransitMetricsDto;
+import com.mey.backend.domain.route.dto.TransitSegmentDto;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Arrays;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+/**
+ * 외부 교통 API 호출에 장애 대응 정책을 적용하는 TransitClient 데코레이터
+ *
+ * - 서킷 브레이커: 최근 호출의 실패율(연결 실패·5xx·429 등 예외, 시간 초과)이 임계치를 넘으면 일정 시간 API를 호출하지 않고 로컬 추정값 반환
+ *   (경로가 없어 추정값으로 답한 정상 응답은 실패로 세지 않음)
+ * - 헤지 요청: 관측 p95 지연이 지나도 응답이 없으면 같은 요청을 한 번 더 보내 먼저 온 정상 응답 사용
+ * - 일일 쿼터: 사용량이 degrade 비율을 넘으면 헤지 중단, stop 비율을 넘으면 로컬 추정으로 전환
+ */
+@Slf4j
+public class ResilientTransitClient implements TransitClient {
+
+    private static final ZoneId QUOTA_ZONE = ZoneId.of("Asia/Seoul");
+    private static final int MIN_LATENCY_SAMPLES = 20;
+    private static final int LATENCY_WINDOW_SIZE = 256;
+
+    public enum BreakerState { CLOSED, HALF_OPEN, OPEN }
+
+    /**
+     * @param failureRateThreshold 서킷을 여는 실패율 (0~1)
+     * @param minimumCalls         실패율 계산 전 최소 호출 수
+     * @param windowSize           실패율 계산에 쓰는 최근 호출 수
+     * @param openDuration         서킷이 열린 뒤 시험 호출까지 대기 시간
+     * @param callTimeout          호출 1건(헤지 포함) 최대 대기 시간
+     * @param hedgeEnabled         헤지 요청 사용 여부
+     * @param hedgeInitialDelay    관측 데이터가 부족할 때 헤지 지연
+     * @param hedgeMinDelay        헤지 지연 하한
+     * @param dailyQuota           일일 호출 한도 (0 이하이면 무제한)
+     * @param degradeRatio         이 비율 이상 사용 시 헤지 중단
+     * @param stopRatio            이 비율 이상 사용 시 API 호출 중단
+     */
+    public record Settings(double failureRateThreshold, int minimumCalls, int windowSize, Duration openDuration,
+                           Duration callTimeout, boolean hedgeEnabled, Duration hedgeInitialDelay,
+                           Duration hedgeMinDelay, long dailyQuota, double degradeRatio, double stopRatio) {
+    }
+
+    private final TransitClient delegate;
+    private final Executor executor;
+    private final Settings settings;
+
+    private final CircuitBreaker breaker;
+    private final LatencyWindow latencies = new LatencyWindow();
+    private final AtomicLong quotaUsed = new AtomicLong();
+    private volatile LocalDate quotaDay = LocalDate.now(QUOTA_ZONE);
+
+    private final Timer latencyTimer;
+    private final Counter success;
+    private final Counter failure;
+    private final Counter timeout;
+    private final Counter shortCircuited;
+    private final Counter quotaRejected;
+    private final Counter hedgeLaunched;
+    private final Counter hedgeWon;
+
+    public ResilientTransitClient(TransitClient delegate, Executor executor, MeterRegistry meterRegistry,
+                                  Settings settings) {
+        this.delegate = delegate;
+        this.executor = executor;
+        this.settings = settings;
+        this.breaker = new CircuitBreaker();
+
+        this.latencyTimer = Timer.builder("route.transit.latency")
+                .publishPercentiles(0.5, 0.95)
+                .register(meterRegistry);
+        this.success = outcome(meterRegistry, "success");
+        this.failure = outcome(meterRegistry, "failure");
+        this.timeout = outcome(meterRegistry, "timeout");
+        this.shortCircuited = outcome(meterRegistry, "short-circuited");
+        this.quotaRejected = outcome(meterRegistry, "quota-exceeded");
+        this.hedgeLaunched = Counter.builder("route.transit.hedge").tag("result", "launched").register(meterRegistry);
+        this.hedgeWon = Counter.builder("route.transit.hedge").tag("result", "won").register(meterRegistry);
+
+        Gauge.builder("route.transit.breaker.state", breaker, b -> b.state().ordinal())
+                .description("0=CLOSED, 1=HALF_OPEN, 2=OPEN")
+                .register(meterRegistry);
+        Gauge.builder("route.transit.quota.used", this, c -> c.currentQuotaUsed())
+                .register(meterRegistry);
+        Gauge.builder("route.transit.quota.limit", settings, Settings::dailyQuota)
+                .register(meterRegistry);
+        Gauge.builder("route.transit.hedge.delay", this, c -> c.hedgeDelayMillis())
+                .baseUnit("milliseconds")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public TransitSegmentDto route(String fromName, double fromLat, double fromLng,
+                                   String toName, double toLat, double toLng,
+                                   LocalDateTime departureTime) {
+        return execute(
+                () -> delegate.route(fromName, fromLat, fromLng, toName, toLat, toLng, departureTime),
+                TransitSegmentDto::isEstimated,
+                () -> WalkSegmentFactory.segment(fromName, fromLat, fromLng, toName, toLat, toLng));
+    }
+
+    @Override
+    public TransitMetricsDto metrics(double fromLat, double fromLng, double toLat, double toLng,
+                                     LocalDateTime departureTime) {
+        return execute(
+                () -> delegate.metrics(fromLat, fromLng, toLat, toLng, departureTime),
+                TransitMetricsDto::isEstimated,
+                () -> WalkSegmentFactory.metrics(fromLat, fromLng, toLat, toLng));
+    }
+
+    public BreakerState breakerState() {
+        return breaker.state();
+    }
+
+    private <T> T execute(Supplier<T> call, Predicate<T> isFallback, Supplier<T> local) {
+        long used = currentQuotaUsed();
+        if (settings.dailyQuota() > 0 && used >= settings.dailyQuota() * settings.stopRatio()) {
+            quotaRejected.increment();
+            return local.get();
+        }
+        if (!breaker.tryAcquire()) {
+            shortCircuited.increment();
+            return local.get();
+        }
+
+        long start = System.nanoTime();
+        T result;
+        try {
+            result = hedgedCall(call, isFallback, hedgeAllowed(used));
+        } catch (InterruptedException e) {
+            // 호출 측이 조회를 취소함 (API 장애가 아니므로 실패로 집계하지 않음)
+            Thread.currentThread().interrupt();
+            breaker.release();
+            return local.get();
+        } catch (TimeoutException e) {
+            timeout.increment();
+            breaker.record(false);
+            log.warn("[TMAP] 응답 시간 초과({}ms) - 로컬 추정으로 대체", settings.callTimeout().toMillis());
+            return local.get();
+        } catch (Exception e) {
+            failure.increment();
+            breaker.record(false);
+            log.warn("[TMAP] 호출 실패 - 로컬 추정으로 대체: {}", e.getMessage());
+            return local.get();
+        }
+
+        // 응답을 받았으면 경로 없음(추정값)이어도 API는 정상
+        long elapsedNanos = System.nanoTime() - start;
+        breaker.record(true);
+        success.increment();
+        latencyTimer.record(elapsedNanos, TimeUnit.NANOSECONDS);
+        latencies.add(TimeUnit.NANOSECONDS.toMillis(elapsedNanos));
+        return result != null ? result : local.get();
+    }
+
+    private <T> T hedgedCall(Supplier<T> call, Predicate<T> isFallback, boolean hedge) throws Exception {
+        CompletableFuture<T> primary = submit(call);
+        if (primary == null) {
+            // 실행기 포화: 호출 스레드에서 직접 실행 (헤지 없음)
+            quotaUsed.incrementAndGet();
+            return call.get();
+        }
+        quotaUsed.incrementAndGet();
+
+        long timeoutMillis = settings.callTimeout().toMillis();
+        if (!hedge) {
+            return primary.get(timeoutMillis, TimeUnit.MILLISECONDS);
+        }
+
+        long delay = Math.min(hedgeDelayMillis(), timeoutMillis);
+        try {
+            return primary.get(delay, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException ignored) {
+            // p95 지연이 지나도 응답이 없으면 헤지 요청 발송
+        }
+
+        CompletableFuture<T> secondary = submit(call);
+        if (secondary == null) {
+            return primary.get(timeoutMillis - delay, TimeUnit.MILLISECONDS);
+        }
+        quotaUsed.incrementAndGet();
+        hedgeLaunched.increment();
+
+        // 먼저 도착한 정상 응답 사용, 없으면 추정값 응답, 둘 다 실패면 예외
+        CompletableFuture<T> first = new CompletableFuture<>();
+        AtomicInteger remaining = new AtomicInteger(2);
+        AtomicReference<T> answered = new AtomicReference<>();
+        primary.whenComplete((r, e) -> settle(first, r, e, isFallback, remaining, answered, false));
+        secondary.whenComplete((r, e) -> settle(first, r, e, isFallback, remaining, answered, true));
+        return first.get(timeoutMillis - delay, TimeUnit.MILLISECONDS);
+    }
+
+    private <T> void settle(CompletableFuture<T> first, T result, Throwable error, Predicate<T> isFallback,
+                            AtomicInteger remaining, AtomicReference<T> answered, boolean hedged) {
+        if (error == null && result != null && !isFallback.test(result)) {
+            if (first.complete(result) && hedged) {
+                hedgeWon.increment();
+            }
+            remaining.decrementAndGet();
+            return;
+        }
+        if (error == null && result != null) {
+            answered.compareAndSet(null, result);
+        }
+        if (remaining.decrementAndGet() == 0) {
+            T fallback = answered.get();
+            if (fallback != null) {
+                first.complete(fallback);
+            } else {
+                first.completeExceptionally(error != null ? error : new TransitUnavailableException("TMAP 응답 없음"));
+            }
+        }
+    }
+
+    private <T> CompletableFuture<T> submit(Supplier<T> call) {
+        try {
+            return CompletableFuture.supplyAsync(call, executor);
+        } catch (RejectedExecutionException e) {
+            return null;
+        }
+    }
+
+    private boolean hedgeAllowed(long used) {
+        if (!settings.hedgeEnabled() || breaker.state() != BreakerState.CLOSED) {
+            return false;
+        }
+        return settings.dailyQuota() <= 0 || used < settings.dailyQuota() * settings.degradeRatio();
+    }
+
+    private long hedgeDelayMillis() {
+        long p95 = latencies.p95();
+        long delay = p95 >= 0 ? p95 : settings.hedgeInitialDelay().toMillis();
+        return Math.max(delay, settings.hedgeMinDelay().toMillis());
+    }
+
+    // 날짜가 바뀌면 사용량 초기화
+    private long currentQuotaUsed() {
+        LocalDate today = LocalDate.now(QUOTA_ZONE);
+        if (!today.equals(quotaDay)) {
+            synchronized (this) {
+                if (!today.equals(quotaDay)) {
+                    quotaDay = today;
+                    quotaUsed.set(0);
+                }
+            }
+        }
+        return quotaUsed.get();
+    }
+
+    private static Counter outcome(MeterRegistry meterRegistry, String outcome) {
+        return Counter.builder("route.transit.calls").tag("outcome", outcome).register(meterRegistry);
+    }
+
+    /**
+     * 최근 N개 호출 결과 기반 서킷 브레이커 (HALF_OPEN에서는 시험 호출 1건만 허용)
+     */
+    private final class CircuitBreaker {
+        private final boolean[] outcomes = new boolean[Math.max(1, settings.windowSize())];
+        private int next;
+        private int size;
+        private int failures;
+        private BreakerState state = BreakerState.CLOSED;
+        private long openedAtNanos;
+        private boolean probeInFlight;
+
+        synchronized BreakerState state() {
+            return state;
+        }
+
+        synchronized boolean tryAcquire() {
+            if (state == BreakerState.OPEN) {
+                if (System.nanoTime() - openedAtNanos < settings.openDuration().toNanos()) {
+                    return false;
+                }
+                state = BreakerState.HALF_OPEN;
+                probeInFlight = false;
+                log.info("[TMAP] 서킷 HALF_OPEN - 시험 호출 허용");
+            }
+            if (state == BreakerState.HALF_OPEN) {
+                if (probeInFlight) {
+                    return false;
+                }
+                probeInFlight = true;
+            }
+            return true;
+        }
+
+        // 결과 없이 끝난 호출 (HALF_OPEN 시험 호출이었다면 다음 호출에 기회를 넘김)
+        synchronized void release() {
+            if (state == BreakerState.HALF_OPEN) {
+                probeInFlight = false;
+            }
+        }
+
+        synchronized void record(boolean ok) {
+            if (state == BreakerState.HALF_OPEN) {
+                if (ok) {
+                    state = BreakerState.CLOSED;
+                    reset();
+                    log.info("[TMAP] 서킷 CLOSED - 정상 응답 확인");
+                } else {
+                    open();
+                }
+                return;
+            }
+            if (state == BreakerState.OPEN) {
+                return;
+            }
+
+            if (size == outcomes.length) {
+                if (!outcomes[next]) failures--;
+            } else {
+                size++;
+            }
+            outcomes[next] = ok;
+            if (!ok) failures++;
+            next = (next + 1) % outcomes.length;
+
+            if (size >= settings.minimumCalls() && failures >= size * settings.failureRateThreshold()) {
+                open();
+            }
+        }
+
+        private void open() {
+            log.warn("[TMAP] 서킷 OPEN - 최근 실패 {}/{}, {}초간 로컬 추정 사용",
+                    failures, size, settings.openDuration().toSeconds());
+            state = BreakerState.OPEN;
+            openedAtNanos = System.nanoTime();
+            reset();
+        }
+
+        private void reset() {
+            next = 0;
+            size = 0;
+            failures = 0;
+            probeInFlight = false;
+        }
+    }
+
+    /**
+     * 최근 N개 정상 응답 지연을 보관하는 고정 크기 링 버퍼
+     */
+    private static final class LatencyWindow {
+        private final long[] samples = new long[LATENCY_WINDOW_SIZE];
+        private int next;
+        private int size;
+
+        synchronized void add(long millis) {
+            samples[next] = millis;
+            next = (next + 1) % samples.length;
+            size = Math.min(size + 1, samples.length);
+        }
+
+        synchronized long p95() {
+            if (size < MIN_LATENCY_SAMPLES) {
+                return -1;
+            }
+            long[] copy = Arrays.copyOf(samples, size);
+            Arrays.sort(copy);
+            return copy[(int) Math.ceil(size * 0.95) - 1];
+        }
+    }
+}
@@ -0,0 +1,33 @@
+package com.mey.backend.domain.route.service;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * AI 루트 중복 판별용 지문 계산
+ *
+ * - 입력 순서와 무관하도록 placeId를 정렬한 뒤 일수, 순서 계산기, 계획 버전과 함께 SHA-256
+ * - 계획 로직이 바뀌면 버전을 올려 이전 지문과 구분
+ */
+public final class RouteFingerprint {
+
+    private RouteFingerprint() {
+    }
+
+    public static String of(List<Long> placeIds, Integer days, String plannerName, String plannerVersion) {
+        String canonical = "v" + plannerVersion
+                + "|" + plannerName
+                + "|d" + (days == null || days < 1 ? 1 : days)
+                + "|" + placeIds.stream().sorted().map(String::valueOf).collect(Collectors.joining(","));
+        try {
+            byte[] hash = MessageDigest.getInstance("SHA-256").digest(canonical.getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(hash);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256을 사용할 수 없습니다.", e);
+        }
+    }
+}
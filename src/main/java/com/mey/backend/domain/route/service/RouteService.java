@@ -13,32 +13,118 @@ import com.mey.backend.global.exception.RouteException;
 import com.mey.backend.global.payload.status.ErrorStatus;
 
 import java.math.BigDecimal;
+import java.time.DayOfWeek;
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.time.LocalTime;
 import java.util.*;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BiConsumer;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
 
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
+@Slf4j
 @Service
 @RequiredArgsConstructor
 public class RouteService {
 
     private static final LocalTime DEFAULT_START_TIME = LocalTime.of(10, 0);
+    private static final int AI_VISIT_MINUTES = 60; // AI 루트 장소별 추천 체류 시간
 
     private final RouteRepository routeRepository;
     private final RoutePlaceRepository routePlaceRepository;
     private final RegionRepository regionRepository;
-    private final TransitClient transitClient; // 실제 구현: TmapTransitClient 등
     private final PlaceRepository placeRepository;
-    private final SequencePlanner sequencePlanner;   // GptSequencePlanner 구현체 주입
+    private final SequencePlannerSelector sequencePlannerSelector; // route.planner.type 설정에 따른 구현체 선택
+    private final MultiDayRoutePlanner multiDayRoutePlanner;
+    private final TimeWindowSequencer timeWindowSequencer;
+    private final TravelMatrixStore travelMatrixStore; // 장소 간 이동 지표 캐시
+    private final TransitLegFetcher transitLegFetcher; // 구간 병렬 조회
+    private final StartRouteGeometryFormatter startRouteGeometryFormatter;
+    private final PopularSegmentPrecomputer popularSegmentPrecomputer; // 인기 루트 구간 사전 계산
+    private final MeterRegistry meterRegistry;
+    private final TransactionTemplate transactionTemplate;
+
+    private static final int MAX_RECOMMEND_PAGE_SIZE = 100;
+
+    @Value("${route.ai.dedup.enabled:true}")
+    private boolean dedupEnabled;
+
+    // 순서 계산/합계 로직이 바뀌면 올려서 이전 AI 루트를 재사용하지 않도록 함
+    @Value("${route.ai.dedup.planner-version:2}")
+    private String plannerVersion;
 
     @Transactional(readOnly = true)
     public StartRouteResponse startRoute(Long routeId, double latitude, double longitude) {
+        return startRoute(routeId, latitude, longitude, PolylineOptions.DEFAULT);
+    }
+
+    /**
+     * 루트 시작 구간 구성
+     *
+     * @param liveLegs    실시간 조회할 구간 (첫 번째는 항상 현재 위치 → 첫 장소)
+     * @param precomputed 장소 i → i+1 사전 계산 구간 (없으면 null, liveLegs에서 순서대로 채움)
+     */
+    public record StartRoutePlan(List<TransitLegFetcher.Leg> liveLegs, List<TransitSegmentDto> precomputed) {
+        public int segmentCount() {
+            return precomputed.size() + 1;
+        }
+    }
+
+    @Transactional(readOnly = true)
+    public StartRouteResponse startRoute(Long routeId, double latitude, double longitude, PolylineOptions polylineOptions) {
+        StartRoutePlan plan = planStartRoute(routeId, latitude, longitude);
+
+        // 구간 병렬 조회 후 방문 순서대로 조립
+        Iterator<TransitSegmentDto> live = transitLegFetcher.routes(plan.liveLegs()).iterator();
+        List<TransitSegmentDto> segments = new ArrayList<>(plan.segmentCount());
+        segments.add(live.next());
+        for (TransitSegmentDto segment : plan.precomputed()) {
+            segments.add(segment != null ? segment : live.next());
+        }
+
+        return StartRouteResponse.builder()
+                .polylineFormat(polylineOptions.getFormat())
+                .segments(startRouteGeometryFormatter.format(segments, polylineOptions))
+                .build();
+    }
+
+    /**
+     * 구간이 준비되는 대로 방문 순서대로 sink에 전달합니다. (앞 구간이 끝나야 다음 구간 전달)
+     *
+     * @param sink (구간 순번, 구간) 소비자, 호출 스레드에서 순서대로 호출
+     */
+    public void streamStartRoute(StartRoutePlan plan, PolylineOptions polylineOptions,
+                                 BiConsumer<Integer, TransitSegmentDto> sink) {
+        List<TransitSegmentDto> precomputed = plan.precomputed();
+        int[] next = {0}; // 다음에 보낼 구간 순번
+        transitLegFetcher.routesInOrder(plan.liveLegs(), null, segment -> {
+            sink.accept(next[0], startRouteGeometryFormatter.format(List.of(segment), polylineOptions).get(0));
+            next[0]++;
+            // 이어지는 사전 계산 구간은 바로 전달
+            while (next[0] < plan.segmentCount() && precomputed.get(next[0] - 1) != null) {
+                sink.accept(next[0], startRouteGeometryFormatter.format(List.of(precomputed.get(next[0] - 1)), polylineOptions).get(0));
+                next[0]++;
+            }
+        });
+    }
+
+    @Transactional(readOnly = true)
+    public StartRoutePlan planStartRoute(Long routeId, double latitude, double longitude) {
         Route route = routeRepository.findById(routeId)
                 .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 루트입니다."));
 
@@ -51,51 +137,51 @@ public class RouteService {
             throw new IllegalStateException("루트에 장소가 없습니다.");
         }
 
-        List<TransitSegmentDto> segments = new ArrayList<>();
-
-        // 현재 위치 → 첫 번째 장소
-        Place firstPlace = places.get(0);
-        segments.add(
-                transitClient.route(
-                        "현재 위치",
-                        latitude, longitude,
-                        firstPlace.getNameKo(),
-                        firstPlace.getLatitude(), firstPlace.getLongitude(),
-                        null
-                )
-        );
-
-        // i → i+1
+        // i → i+1 (인기 루트는 사전 계산된 구간 사용)
+        List<TransitLegFetcher.Leg> stopLegs = new ArrayList<>(places.size() - 1);
         for (int i = 0; i < places.size() - 1; i++) {
-            Place from = places.get(i);
-            Place to = places.get(i + 1);
-
-            segments.add(
-                    transitClient.route(
-                            from.getNameKo(),
-                            from.getLatitude(), from.getLongitude(),
-                            to.getNameKo(),
-                            to.getLatitude(), to.getLongitude(),
-                            null
-                    )
-            );
+            stopLegs.add(TransitLegFetcher.Leg.between(places.get(i), places.get(i + 1)));
         }
-
-        return StartRouteResponse.builder()
-                .segments(segments)
-                .build();
+        List<TransitSegmentDto> precomputed = route.getRouteType() == RouteType.POPULAR
+                ? popularSegmentPrecomputer.find(stopLegs, TimeBucket.of(LocalDateTime.now()))
+                : Collections.nCopies(stopLegs.size(), null);
+
+        // 현재 위치 → 첫 번째 장소, 사전 계산에 없는 구간만 실시간 조회
+        List<TransitLegFetcher.Leg> liveLegs = new ArrayList<>();
+        liveLegs.add(TransitLegFetcher.Leg.fromLocation("현재 위치", latitude, longitude, places.get(0)));
+        for (int i = 0; i < stopLegs.size(); i++) {
+            if (precomputed.get(i) == null) liveLegs.add(stopLegs.get(i));
+        }
+        return new StartRoutePlan(liveLegs, precomputed);
     }
 
-    @Transactional
+    /**
+     * 장소 목록으로 AI 루트를 생성합니다.
+     * 같은 장소 구성(정렬된 placeId + 일수 + 계획 버전)의 AI 루트가 이미 있으면 순서 계산과 TMAP 조회 없이 재사용합니다.
+     * TMAP 조회 동안 DB 커넥션을 잡지 않도록 저장 단계만 트랜잭션으로 실행합니다.
+     */
     public RouteCreateResponseDto createRouteByAI(CreateRouteByPlaceIdsRequestDto req) {
         // 1) 검증
         if (req.getPlaceIds() == null || req.getPlaceIds().size() < 2) {
             throw new IllegalArgumentException("2개 이상의 placeId가 필요합니다.");
         }
 
+        // 같은 장소 구성의 기존 AI 루트 재사용
+        String fingerprint = dedupEnabled
+                ? RouteFingerprint.of(req.getPlaceIds(), req.getDays(), sequencePlannerSelector.current().name(), plannerVersion)
+                : null;
+        if (fingerprint != null) {
+            Optional<RouteCreateResponseDto> existing = findExistingAiRoute(fingerprint, req.getPlaceIds());
+            if (existing.isPresent()) {
+                countDedup("hit");
+                return existing.get();
+            }
+            countDedup("miss");
+        }
+
         // 2) placeId → Place 조회 (요청 순서 보존)
-        // findAllById는 순서를 보장하지 않으니, map으로 받아서 placeIds 순회
-        Map<Long, Place> found = placeRepository.findAllById(req.getPlaceIds())
+        // 순서를 보장하지 않으니 map으로 받아서 placeIds 순회, 지역은 루트 저장/응답에 쓰이므로 함께 조회
+        Map<Long, Place> found = placeRepository.findAllWithRegionByPlaceIdIn(req.getPlaceIds())
                 .stream().collect(Collectors.toMap(Place::getPlaceId, p -> p));
         List<Place> selected = new ArrayList<>(req.getPlaceIds().size());
         for (Long id : req.getPlaceIds()) {
@@ -104,7 +190,7 @@ public class RouteService {
             selected.add(p);
         }
 
-        // 3) GPT용 좌표 리스트 구성 (입력 인덱스 = originalIndex)
+        // 3) 순서 계산용 좌표 리스트 구성 (입력 인덱스 = originalIndex)
         List<CoordinateDto> coordsForPlan = new ArrayList<>();
         for (int i = 0; i < selected.size(); i++) {
             Place p = selected.get(i);
@@ -116,15 +202,27 @@ public class RouteService {
                     .build());
         }
 
-        // 4) 방문 순서 최적화 (GPT)
-        SequencePlanner.PlanResult plan;
-        try {
-            plan = sequencePlanner.plan(coordsForPlan);
-        } catch (Exception e) {
-            List<Integer> fallback = IntStream.range(0, coordsForPlan.size()).boxed().toList();
-            plan = new SequencePlanner.PlanResult(fallback, 0);
+        // 4) 방문 순서 최적화 (여러 날이면 일자별로 나눈 뒤 일자별 순서 계산)
+        List<Integer> orderIdx; // 프론트 핵심: 입력 인덱스 기준 순서
+        List<Integer> dayNumbers;
+        if (req.getDays() != null && req.getDays() > 1 && selected.size() > req.getDays()) {
+            MultiDayRoutePlanner.MultiDayPlan multiDayPlan = multiDayRoutePlanner.plan(coordsForPlan, req.getDays());
+            orderIdx = multiDayPlan.order();
+            dayNumbers = multiDayPlan.dayNumbers();
+        } else {
+            SequencePlanner.PlanResult plan;
+            try {
+                plan = sequencePlannerSelector.current().plan(coordsForPlan);
+            } catch (Exception e) {
+                List<Integer> fallback = IntStream.range(0, coordsForPlan.size()).boxed().toList();
+                plan = new SequencePlanner.PlanResult(fallback, 0);
+            }
+            orderIdx = plan.order();
+            dayNumbers = Collections.nCopies(orderIdx.size(), 1);
         }
-        List<Integer> orderIdx = plan.order(); // 프론트 핵심: 입력 인덱스 기준 순서
+
+        // 4-1) 일자별로 영업시간 안에 도착하도록 순서 보정 (결과를 visitOrder로 저장해 모든 조회 API가 같은 순서 사용)
+        orderIdx = sequenceByOpeningHours(selected, orderIdx, dayNumbers);
 
         // placeId 기준 순서 리스트도 생성 (옵션)
         List<Long> orderedPlaceIds = orderIdx.stream()
@@ -132,7 +230,7 @@ public class RouteService {
                 .toList();
 
         // 5) TMAP으로 총 거리/시간/요금 합계
-        Totals totals = computeTotals(selected, orderedPlaceIds);
+        Totals totals = computeTotals(selected, orderedPlaceIds, dayNumbers);
         int totalSec   = totals.totalDurationSec();
         int totalMin   = Math.max(1, totalSec / 60);
         int totalMeter = totals.totalDistanceMeters();
@@ -160,22 +258,108 @@ public class RouteService {
                 .totalCost(totalFare)
                 .themes(Collections.emptyList())
                 .routeType(RouteType.AI)
+                .fingerprint(fingerprint)
                 .build();
-        routeRepository.save(route);
 
-        // 7) RoutePlace 저장 (기존 Place만 연결)
-        int visitOrder = 1;
-        for (Integer idx : orderIdx) {
-            Place p = selected.get(idx);
-            routePlaceRepository.save(RoutePlace.builder()
+        // 7) Route + RoutePlace 저장 (기존 Place만 연결, RoutePlace는 JDBC 배치 INSERT 한 번)
+        List<RoutePlace> routePlaces = new ArrayList<>(orderIdx.size());
+        for (int i = 0; i < orderIdx.size(); i++) {
+            Place p = selected.get(orderIdx.get(i));
+            routePlaces.add(RoutePlace.builder()
                     .route(route)
                     .place(p)
-                    .visitOrder(visitOrder++)
-                    .recommendDurationMinutes(60)
+                    .visitOrder(i + 1)
+                    .recommendDurationMinutes(AI_VISIT_MINUTES)
+                    .dayNumber(dayNumbers.get(i))
                     .build());
         }
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                long persistStart = System.nanoTime();
+                routeRepository.save(route);
+                routePlaceRepository.insertAll(routePlaces);
+                recordPersistLatency(persistStart, routePlaces.size());
+            });
+        } catch (DataIntegrityViolationException e) {
+            // 동시에 같은 장소 구성이 저장된 경우 (uk_routes_fingerprint) 먼저 저장된 루트 사용
+            if (fingerprint == null) throw e;
+            countDedup("race");
+            return findExistingAiRoute(fingerprint, req.getPlaceIds()).orElseThrow(() -> e);
+        }
 
         // 8) 응답
+        return toCreateResponse(route, orderIdx, orderedPlaceIds, dayNumbers);
+    }
+
+    // 일차별 구간마다 영업시간 위반이 줄어드는 순서로 재배치 (생성일을 1일차로 보고 요일 계산, 10시 출발 기준)
+    private List<Integer> sequenceByOpeningHours(List<Place> selected, List<Integer> orderIdx, List<Integer> dayNumbers) {
+        LocalDate baseDate = LocalDate.now();
+        int startMinute = DEFAULT_START_TIME.getHour() * 60 + DEFAULT_START_TIME.getMinute();
+
+        List<Integer> result = new ArrayList<>(orderIdx.size());
+        int from = 0;
+        while (from < orderIdx.size()) {
+            int to = from;
+            while (to < orderIdx.size() && Objects.equals(dayNumbers.get(to), dayNumbers.get(from))) {
+                to++;
+            }
+            List<Integer> dayIdx = orderIdx.subList(from, to);
+            List<Place> dayPlaces = dayIdx.stream().map(selected::get).toList();
+            LocalDate date = baseDate.plusDays(dayNumbers.get(from) - 1L);
+
+            List<TimeWindowSequencer.Stop> stops = dayPlaces.stream()
+                    .map(p -> new TimeWindowSequencer.Stop(timeWindowSequencer.hoursOf(p), AI_VISIT_MINUTES))
+                    .toList();
+            TimeWindowSequencer.Schedule schedule = timeWindowSequencer.sequence(stops, date.getDayOfWeek(),
+                    startMinute, travelMinutes(dayPlaces, TimeBucket.of(date.atTime(DEFAULT_START_TIME))));
+            for (TimeWindowSequencer.Visit visit : schedule.visits()) {
+                result.add(dayIdx.get(visit.index()));
+            }
+            from = to;
+        }
+        return result;
+    }
+
+    // 지문이 같은 기존 AI 루트를 응답 형식으로 조회 (order는 이번 요청의 입력 인덱스 기준으로 다시 계산)
+    private Optional<RouteCreateResponseDto> findExistingAiRoute(String fingerprint, List<Long> requestPlaceIds) {
+        return transactionTemplate.execute(status -> routeRepository.findByFingerprint(fingerprint)
+                .flatMap(route -> {
+                    List<RoutePlace> routePlaces = routePlaceRepository.findByRouteIdOrderByVisitOrder(route.getId());
+                    if (routePlaces.size() != requestPlaceIds.size()) {
+                        return Optional.empty();
+                    }
+
+                    // 같은 placeId가 여러 번 있으면 앞선 입력 인덱스부터 배정
+                    Map<Long, Deque<Integer>> inputIndexes = new HashMap<>();
+                    for (int i = 0; i < requestPlaceIds.size(); i++) {
+                        inputIndexes.computeIfAbsent(requestPlaceIds.get(i), k -> new ArrayDeque<>()).add(i);
+                    }
+                    List<Integer> order = new ArrayList<>(routePlaces.size());
+                    List<Long> orderedPlaceIds = new ArrayList<>(routePlaces.size());
+                    List<Integer> dayNumbers = new ArrayList<>(routePlaces.size());
+                    for (RoutePlace rp : routePlaces) {
+                        Long placeId = rp.getPlace().getPlaceId();
+                        Deque<Integer> indexes = inputIndexes.get(placeId);
+                        if (indexes == null || indexes.isEmpty()) {
+                            return Optional.empty();
+                        }
+                        order.add(indexes.poll());
+                        orderedPlaceIds.add(placeId);
+                        dayNumbers.add(Optional.ofNullable(rp.getDayNumber()).orElse(1));
+                    }
+                    return Optional.of(toCreateResponse(route, order, orderedPlaceIds, dayNumbers));
+                }));
+    }
+
+    private void countDedup(String result) {
+        Counter.builder("route.create.dedup")
+                .tag("result", result)
+                .register(meterRegistry)
+                .increment();
+    }
+
+    private RouteCreateResponseDto toCreateResponse(Route route, List<Integer> orderIdx,
+                                                    List<Long> orderedPlaceIds, List<Integer> dayNumbers) {
         return RouteCreateResponseDto.builder()
                 .routeId(route.getId())
                 .titleKo(route.getTitleKo())
@@ -191,24 +375,24 @@ public class RouteService {
                 .regionName(route.getRegion() != null ? route.getRegion().getNameKo() : null)
                 .order(orderIdx)                   // [2,0,1] 같은 입력 인덱스 순서
                 .orderedPlaceIds(orderedPlaceIds)  // [303,101,202] 같은 실제 placeId 순서
+                .dayNumbers(dayNumbers)            // [1,1,2] 같은 일차
                 .build();
     }
 
-    private Totals computeTotals(List<Place> selected, List<Long> orderedPlaceIds) {
+    // 일차가 바뀌는 구간(숙소 이동)은 합계에서 제외
+    private Totals computeTotals(List<Place> selected, List<Long> orderedPlaceIds, List<Integer> dayNumbers) {
         Map<Long, Place> byId = selected.stream()
                 .collect(Collectors.toMap(Place::getPlaceId, p -> p));
 
-        int sec = 0, dist = 0, fare = 0;
-
+        List<TransitLegFetcher.Leg> legs = new ArrayList<>();
         for (int i = 0; i < orderedPlaceIds.size() - 1; i++) {
-            Place from = byId.get(orderedPlaceIds.get(i));
-            Place to   = byId.get(orderedPlaceIds.get(i + 1));
-
-            TransitMetricsDto m = transitClient.metrics(
-                    from.getLatitude(), from.getLongitude(),
-                    to.getLatitude(),   to.getLongitude(),
-                    null
-            );
+            if (!Objects.equals(dayNumbers.get(i), dayNumbers.get(i + 1))) continue;
+            legs.add(TransitLegFetcher.Leg.between(
+                    byId.get(orderedPlaceIds.get(i)), byId.get(orderedPlaceIds.get(i + 1))));
+        }
+
+        int sec = 0, dist = 0, fare = 0;
+        for (TransitMetricsDto m : transitLegFetcher.metrics(legs)) {
             sec  += m.getDurationSeconds();
             dist += m.getDistanceMeters();
             fare += m.getFare();
@@ -219,52 +403,58 @@ public class RouteService {
     private record Totals(int totalDurationSec, int totalDistanceMeters, int totalFare) {
     }
 
-    public RouteRecommendListResponseDto getRecommendedRoutes(Theme theme, int limit, int offset) {
-        List<Route> allRoutes;
+    @Transactional(readOnly = true)
+    public RouteRecommendListResponseDto getRecommendedRoutes(Theme theme, int limit, int offset, Long cursor) {
+        int pageSize = Math.max(1, Math.min(limit, MAX_RECOMMEND_PAGE_SIZE));
+        int start = Math.max(0, offset);
 
+        // 다음 페이지 존재 여부 확인을 위해 한 건 더 조회 (테마 조건은 route_themes 인덱스 사용)
+        List<Long> fetched;
         if (theme != null) {
-            // theme을 JSON 배열 문자열로 변환 (단일)
-            String themesJson = "[\"" + theme.name() + "\"]";
-            allRoutes = routeRepository.findPopularByThemes(themesJson);
+            fetched = cursor != null
+                    ? routeRepository.findPopularPageIdsByThemeAfter(theme.name(), cursor, pageSize + 1)
+                    : routeRepository.findPopularPageIdsByTheme(theme.name(), pageSize + 1, start);
         } else {
-            allRoutes = routeRepository.findByRouteType(RouteType.POPULAR);
+            fetched = cursor != null
+                    ? routeRepository.findPopularPageIdsAfter(cursor, pageSize + 1)
+                    : routeRepository.findPopularPageIds(pageSize + 1, start);
+        }
+        boolean hasNext = fetched.size() > pageSize;
+        List<Long> page = hasNext ? fetched.subList(0, pageSize) : fetched;
+
+        // 전체 개수: cursor 요청은 생략, 마지막 페이지면 COUNT 없이 계산
+        Integer totalCount = null;
+        if (cursor == null) {
+            if (!hasNext && (!page.isEmpty() || start == 0)) {
+                totalCount = start + page.size();
+            } else {
+                totalCount = (int) (theme != null
+                        ? routeRepository.countPopularByTheme(theme.name())
+                        : routeRepository.countPopular());
+            }
         }
 
-        // 전체 개수
-        int totalCount = allRoutes.size();
-
-        // 수동 페이지네이션
-        List<Route> paginatedRoutes = allRoutes.stream()
-                .skip(offset)
-                .limit(limit)
-                .toList();
-
-        // DTO 변환
-        List<RouteRecommendResponseDto> routes = paginatedRoutes.stream()
-                .map(this::convertToRouteRecommendDto)
-                .toList();
+        // 지역명을 포함한 DTO 프로젝션 + 테마 조회 (루트 수와 무관하게 두 번) 후 페이지 순서대로 정렬
+        List<RouteRecommendResponseDto> routes = List.of();
+        if (!page.isEmpty()) {
+            Map<Long, RouteRecommendResponseDto> byId = routeRepository.findRecommendDtosByIdIn(page).stream()
+                    .collect(Collectors.toMap(RouteRecommendResponseDto::getId, Function.identity()));
+            Map<Long, List<Theme>> themes = routeRepository.findThemesByIdIn(page).stream()
+                    .collect(Collectors.toMap(RouteRepository.RouteThemes::getId, RouteRepository.RouteThemes::getThemes));
+            routes = page.stream()
+                    .map(byId::get)
+                    .filter(Objects::nonNull)
+                    .map(dto -> dto.toBuilder().themes(themes.getOrDefault(dto.getId(), List.of())).build())
+                    .toList();
+        }
 
         return RouteRecommendListResponseDto.builder()
                 .routes(routes)
                 .totalCount(totalCount)
+                .nextCursor(hasNext ? page.get(page.size() - 1) : null)
                 .build();
     }
 
-    private RouteRecommendResponseDto convertToRouteRecommendDto(Route route) {
-        return RouteRecommendResponseDto.builder()
-                .id(route.getId())
-                .imageUrl(route.getImageUrl())
-                .titleKo(route.getTitleKo())
-                .titleEn(route.getTitleEn())
-                .regionNameKo(route.getRegion() != null ? route.getRegion().getNameKo() : null)
-                .regionNameEn(route.getRegion() != null ? route.getRegion().getNameEn() : null)
-                .descriptionKo(route.getDescriptionKo())
-                .descriptionEn(route.getDescriptionEn())
-                .themes(route.getThemes())
-                .build();
-
-    }
-
     private List<LocalTime> getAvailableTimes() {
         return Arrays.asList(
                 LocalTime.of(9, 0),
@@ -280,8 +470,8 @@ public class RouteService {
         // 2. 해당 루트에 속한 장소 리스트 조회 (방문 순서대로 정렬)
         List<RoutePlace> routePlaces = routePlaceRepository.findByRouteIdOrderByVisitOrder(routeId);
 
-        // 3. 조회 결과를 DTO로 변환 (목데이터 생성 부분 제거)
-        List<RouteDetailResponseDto.RoutePlaceDto> placeDtos = convertToRoutePlaceDtos(routePlaces, startTime);
+        // 3. 영업시간을 고려해 일자별 도착/출발 시각 계산 후 DTO로 변환
+        List<RouteDetailResponseDto.RoutePlaceDto> placeDtos = convertToRoutePlaceDtos(routePlaces, date, startTime);
 
         // 4. 최종 응답 객체 생성
         return buildRouteDetailResponse(route, placeDtos);
@@ -308,31 +498,84 @@ public class RouteService {
     }
 
     private List<RouteDetailResponseDto.RoutePlaceDto> convertToRoutePlaceDtos(List<RoutePlace> routePlaces,
+                                                                               LocalDate date,
                                                                                LocalTime startTime) {
         LocalTime currentTime = Optional.ofNullable(startTime).orElse(DEFAULT_START_TIME);
+        LocalDate baseDate = Optional.ofNullable(date).orElse(LocalDate.now());
+        int startMinute = currentTime.getHour() * 60 + currentTime.getMinute();
+
+        // 일차별로 묶어서 (일차 없음 = 1일차) 각각 하루 일정으로 계산
+        Map<Integer, List<RoutePlace>> byDay = routePlaces.stream()
+                .collect(Collectors.groupingBy(rp -> Optional.ofNullable(rp.getDayNumber()).orElse(1),
+                        TreeMap::new, Collectors.toList()));
+
+        List<RouteDetailResponseDto.RoutePlaceDto> result = new ArrayList<>(routePlaces.size());
+        for (Map.Entry<Integer, List<RoutePlace>> entry : byDay.entrySet()) {
+            List<RoutePlace> dayPlaces = entry.getValue();
+            DayOfWeek dayOfWeek = baseDate.plusDays(entry.getKey() - 1L).getDayOfWeek();
+
+            List<TimeWindowSequencer.Stop> stops = dayPlaces.stream()
+                    .map(rp -> new TimeWindowSequencer.Stop(
+                            timeWindowSequencer.hoursOf(rp.getPlace()), rp.getRecommendDurationMinutes()))
+                    .toList();
+            // 저장된 visitOrder를 그대로 표시 순서로 사용 (startRoute/SSE/reroute와 같은 순서), 시각만 계산
+            List<Integer> storedOrder = IntStream.range(0, dayPlaces.size()).boxed().toList();
+            TimeWindowSequencer.Schedule schedule = timeWindowSequencer.simulate(stops, storedOrder, dayOfWeek,
+                    startMinute, travelMinutes(dayPlaces.stream().map(RoutePlace::getPlace).toList(),
+                            TimeBucket.of(baseDate.atTime(currentTime))));
+
+            for (TimeWindowSequencer.Visit visit : schedule.visits()) {
+                result.add(convertToRoutePlaceDto(dayPlaces.get(visit.index()), visit));
+            }
+        }
+        return result;
+    }
 
-        return routePlaces.stream()
-                .map(routePlace -> convertToRoutePlaceDto(routePlace, currentTime))
-                .toList();
+    // 장소 간 이동 시간(분) 행렬 (저장된 이동 지표 우선, 없으면 직선거리 기반 추정)
+    private int[][] travelMinutes(List<Place> dayPlaces, TimeBucket bucket) {
+        int n = dayPlaces.size();
+        int[][] minutes = new int[n][n];
+        for (int i = 0; i < n; i++) {
+            Place a = dayPlaces.get(i);
+            for (int j = 0; j < n; j++) {
+                if (i == j) continue;
+                Place b = dayPlaces.get(j);
+                int seconds = travelMatrixStore.find(a.getPlaceId(), b.getPlaceId(), bucket)
+                        .map(TransitMetricsDto::getDurationSeconds)
+                        .orElseGet(() -> GeoUtils.estimateTravelSeconds(GeoUtils.haversine(
+                                a.getLatitude(), a.getLongitude(), b.getLatitude(), b.getLongitude())));
+                minutes[i][j] = (seconds + 59) / 60;
+            }
+        }
+        return minutes;
     }
 
-    private RouteDetailResponseDto.RoutePlaceDto convertToRoutePlaceDto(RoutePlace routePlace, LocalTime currentTime) {
-        LocalTime arrivalTime = Optional.ofNullable(routePlace.getArrivalTime()).orElse(currentTime);
+    private RouteDetailResponseDto.RoutePlaceDto convertToRoutePlaceDto(RoutePlace routePlace,
+                                                                       TimeWindowSequencer.Visit visit) {
+        LocalTime arrivalTime = Optional.ofNullable(routePlace.getArrivalTime())
+                .orElse(toLocalTime(visit.startMinute()));
         LocalTime departureTime = Optional.ofNullable(routePlace.getDepartureTime())
-                .orElse(arrivalTime.plusMinutes(routePlace.getRecommendDurationMinutes()));
+                .orElse(toLocalTime(visit.departureMinute()));
 
         RouteDetailResponseDto.PlaceDto placeDto = buildPlaceDto(routePlace);
 
         return RouteDetailResponseDto.RoutePlaceDto.builder()
                 .sequenceOrder(routePlace.getVisitOrder())
+                .dayNumber(routePlace.getDayNumber())
                 .place(placeDto)
                 .recommendedDurationMinutes(routePlace.getRecommendDurationMinutes())
                 .estimatedArrivalTime(arrivalTime)
                 .estimatedDepartureTime(departureTime)
+                .openAtArrival(visit.withinHours())
                 .notes(routePlace.getNotes())
                 .build();
     }
 
+    // 자정 기준 분 → 시각 (자정을 넘기면 23:59로 고정, 다음 날 시각으로 돌아가지 않도록)
+    private static LocalTime toLocalTime(int minuteOfDay) {
+        return LocalTime.ofSecondOfDay(Math.max(0, Math.min(minuteOfDay, 24 * 60 - 1)) * 60L);
+    }
+
     private RouteDetailResponseDto.PlaceDto buildPlaceDto(RoutePlace routePlace) {
         return RouteDetailResponseDto.PlaceDto.builder()
                 .placeId(routePlace.getPlace().getPlaceId())
@@ -368,6 +611,24 @@ public class RouteService {
         return "/static/images/route-default.png"; // 프로젝트 맞게 경로/URL 지정
     }
 
+    // 루트 저장 시작 ~ 커밋 완료까지 소요 시간 기록
+    private void recordPersistLatency(long startNanos, int placeCount) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                Timer.builder("route.create.persist")
+                        .tag("outcome", status == STATUS_COMMITTED ? "committed" : "rolled-back")
+                        .publishPercentiles(0.5, 0.95)
+                        .register(meterRegistry)
+                        .record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
+                log.debug("루트 저장 커밋 - 장소 {}개, {}ms", placeCount, (System.nanoTime() - startNanos) / 1_000_000);
+            }
+        });
+    }
+
     public RouteCreateResponseDto createRoute(RouteCreateRequestDto request) {
         Region region = null;
         if (request.getRegionId() != null) {
@@ -4,8 +4,32 @@ import com.mey.backend.domain.route.dto.CoordinateDto;
 import java.util.List;
 
 public interface SequencePlanner {
+    // 설정(route.planner.type)에서 사용하는 식별자
+    String name();
+
     PlanResult plan(List<CoordinateDto> points);
 
+    // 이미 만든 비용 행렬을 재사용 (행렬을 쓰지 않는 planner는 무시)
+    default PlanResult plan(List<CoordinateDto> points, double[][] cost) {
+        return plan(points);
+    }
+
+    // 외부 호출(LLM 등)을 기다리는 planner면 true → CPU 풀 대신 I/O 풀에서 실행
+    default boolean ioBound() {
+        return false;
+    }
+
+    // 0..n-1을 한 번씩 포함하는 순열인지 확인
+    static boolean isValidOrder(List<Integer> order, int n) {
+        if (order == null || order.size() != n) return false;
+        boolean[] seen = new boolean[n];
+        for (Integer i : order) {
+            if (i == null || i < 0 || i >= n || seen[i]) return false;
+            seen[i] = true;
+        }
+        return true;
+    }
+
     // 표준 반환 형태
     record PlanResult(
             List<Integer> order,          // 방문 순서: 입력 원본 인덱스 리스트
@@ -0,0 +1,52 @@
+package com.mey.backend.domain.route.service;
+
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * 설정(route.planner.type)에 따라 사용할 SequencePlanner를 선택
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SequencePlannerSelector {
+
+    private final List<SequencePlanner> planners;
+
+    @Value("${route.planner.type:local}")
+    private String plannerType;
+
+    private SequencePlanner selected;
+
+    @PostConstruct
+    void init() {
+        selected = find(plannerType);
+        log.info("방문 순서 계산기: {}", selected.name());
+    }
+
+    public SequencePlanner current() {
+        return selected;
+    }
+
+    /**
+     * 이름으로 SequencePlanner를 찾습니다. 없으면 local 구현을 반환합니다.
+     */
+    public SequencePlanner find(String name) {
+        SequencePlanner fallback = null;
+        for (SequencePlanner planner : planners) {
+            if (planner.name().equalsIgnoreCase(name)) {
+                return planner;
+            }
+            if (planner instanceof LocalSequencePlanner) {
+                fallback = planner;
+            }
+        }
+        log.warn("알 수 없는 planner 타입 '{}', local 사용", name);
+        return fallback;
+    }
+}
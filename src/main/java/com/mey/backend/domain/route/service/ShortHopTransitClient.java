@@ -0,0 +1,63 @@
+package com.mey.backend.domain.route.service;
+
+import com.mey.backend.domain.route.dto.TransitMetricsDto;
+import com.mey.backend.domain.route.dto.TransitSegmentDto;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import java.time.LocalDateTime;
+
+/**
+ * 가까운 구간은 외부 API를 호출하지 않고 도보 구간으로 계산하는 TransitClient 데코레이터
+ *
+ * - 직선거리가 maxMeters 미만이면 직선거리 × 우회 계수 / 도보 속도로 로컬 계산 (estimated = true)
+ * - 그 외에는 위임 대상(캐시 → TMAP)으로 전달
+ */
+public class ShortHopTransitClient implements TransitClient {
+
+    private final TransitClient delegate;
+    private final double maxMeters;
+    private final double detourFactor;
+    private final double walkSpeedMps;
+
+    private final Counter local;
+    private final Counter delegated;
+
+    public ShortHopTransitClient(TransitClient delegate, MeterRegistry meterRegistry,
+                                 double maxMeters, double detourFactor, double walkSpeedMps) {
+        this.delegate = delegate;
+        this.maxMeters = maxMeters;
+        this.detourFactor = detourFactor;
+        this.walkSpeedMps = walkSpeedMps;
+        this.local = Counter.builder("route.transit.short-hop").tag("result", "local").register(meterRegistry);
+        this.delegated = Counter.builder("route.transit.short-hop").tag("result", "delegated").register(meterRegistry);
+    }
+
+    @Override
+    public TransitSegmentDto route(String fromName, double fromLat, double fromLng,
+                                   String toName, double toLat, double toLng,
+                                   LocalDateTime departureTime) {
+        if (isShortHop(fromLat, fromLng, toLat, toLng)) {
+            local.increment();
+            return WalkSegmentFactory.segment(fromName, fromLat, fromLng, toName, toLat, toLng,
+                    detourFactor, walkSpeedMps, "도보 이동");
+        }
+        delegated.increment();
+        return delegate.route(fromName, fromLat, fromLng, toName, toLat, toLng, departureTime);
+    }
+
+    @Override
+    public TransitMetricsDto metrics(double fromLat, double fromLng, double toLat, double toLng,
+                                     LocalDateTime departureTime) {
+        if (isShortHop(fromLat, fromLng, toLat, toLng)) {
+            local.increment();
+            return WalkSegmentFactory.metrics(fromLat, fromLng, toLat, toLng, detourFactor, walkSpeedMps);
+        }
+        delegated.increment();
+        return delegate.metrics(fromLat, fromLng, toLat, toLng, departureTime);
+    }
+
+    private boolean isShortHop(double fromLat, double fromLng, double toLat, double toLng) {
+        return GeoUtils.haversine(fromLat, fromLng, toLat, toLng) < maxMeters;
+    }
+}
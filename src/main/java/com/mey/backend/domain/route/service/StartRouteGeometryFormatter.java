@@ -0,0 +1,132 @@
+package com.mey.backend.domain.route.service;
+
+import com.mey.backend.domain.route.dto.PackedPolyline;
+import com.mey.backend.domain.route.dto.PolylineOptions;
+import com.mey.backend.domain.route.dto.StartRouteResponse;
+import com.mey.backend.domain.route.dto.TransitSegmentDto;
+import com.mey.backend.domain.route.dto.TransitStepDto;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 루트 시작 응답의 폴리라인을 요청 옵션(단순화 허용 오차, 인코딩 형식)에 맞게 변환하는 클래스
+ *
+ * 구간 DTO는 TransitClient 캐시와 공유될 수 있으므로 원본을 수정하지 않고 복사본을 만듭니다.
+ * 변환 전후 좌표 수와 폴리라인 JSON 크기(바이트)를 메트릭으로 기록합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class StartRouteGeometryFormatter {
+
+    private final MeterRegistry meterRegistry;
+
+    public List<TransitSegmentDto> format(List<TransitSegmentDto> segments, PolylineOptions options) {
+        boolean encoded = options.getFormat() == StartRouteResponse.PolylineFormat.ENCODED;
+        boolean simplify = options.getToleranceMeters() != null || options.getZoom() != null;
+        if (!encoded && !simplify) {
+            return segments;
+        }
+
+        long rawPoints = 0;
+        long outputPoints = 0;
+        long rawBytes = 0;
+        long outputBytes = 0;
+
+        List<TransitSegmentDto> result = new ArrayList<>(segments.size());
+        for (TransitSegmentDto segment : segments) {
+            if (segment == null || segment.getSteps() == null) {
+                result.add(segment);
+                continue;
+            }
+            List<TransitStepDto> steps = new ArrayList<>(segment.getSteps().size());
+            for (TransitStepDto step : segment.getSteps()) {
+                PackedPolyline line = step.getPolyline();
+                if (line == null || line.isEmpty()) {
+                    steps.add(step);
+                    continue;
+                }
+
+                PackedPolyline simplified = simplify ? PolylineCodec.simplify(line, toleranceMeters(options, line)) : line;
+                rawPoints += line.size();
+                outputPoints += simplified.size();
+                rawBytes += pointsJsonBytes(line);
+
+                TransitStepDto.TransitStepDtoBuilder copy = copyOf(step);
+                if (encoded) {
+                    String encodedLine = PolylineCodec.encode(simplified);
+                    outputBytes += encodedLine.length() + 2;
+                    copy.polyline(null).encodedPolyline(encodedLine);
+                } else {
+                    outputBytes += pointsJsonBytes(simplified);
+                    copy.polyline(simplified);
+                }
+                steps.add(copy.build());
+            }
+            result.add(copyOf(segment, steps));
+        }
+
+        String format = options.getFormat().name().toLowerCase();
+        summary("route.start.polyline.points", "stage", "raw").record(rawPoints);
+        summary("route.start.polyline.points", "stage", "output").record(outputPoints);
+        summary("route.start.polyline.bytes", "format", "points").record(rawBytes);
+        summary("route.start.polyline.bytes", "format", format).record(outputBytes);
+        log.debug("루트 시작 폴리라인 변환 - 형식: {}, 좌표 {} → {}, 크기 {}B → {}B",
+                format, rawPoints, outputPoints, rawBytes, outputBytes);
+        return result;
+    }
+
+    private static double toleranceMeters(PolylineOptions options, PackedPolyline line) {
+        if (options.getToleranceMeters() != null) {
+            return options.getToleranceMeters();
+        }
+        return PolylineCodec.toleranceForZoom(options.getZoom(), line.lat(0));
+    }
+
+    // [{"lat":..,"lng":..},...] 직렬화 크기
+    private static long pointsJsonBytes(PackedPolyline line) {
+        long bytes = 2 + Math.max(0, line.size() - 1);
+        for (int i = 0; i < line.size(); i++) {
+            bytes += 15 + Double.toString(line.lat(i)).length() + Double.toString(line.lng(i)).length();
+        }
+        return bytes;
+    }
+
+    private DistributionSummary summary(String name, String tagKey, String tagValue) {
+        return DistributionSummary.builder(name)
+                .tag(tagKey, tagValue)
+                .register(meterRegistry);
+    }
+
+    private static TransitStepDto.TransitStepDtoBuilder copyOf(TransitStepDto step) {
+        return TransitStepDto.builder()
+                .mode(step.getMode())
+                .instruction(step.getInstruction())
+                .distanceMeters(step.getDistanceMeters())
+                .durationSeconds(step.getDurationSeconds())
+                .lineName(step.getLineName())
+                .headsign(step.getHeadsign())
+                .numStops(step.getNumStops())
+                .polyline(step.getPolyline())
+                .encodedPolyline(step.getEncodedPolyline());
+    }
+
+    private static TransitSegmentDto copyOf(TransitSegmentDto segment, List<TransitStepDto> steps) {
+        return TransitSegmentDto.builder()
+                .fromName(segment.getFromName()).fromLat(segment.getFromLat()).fromLng(segment.getFromLng())
+                .toName(segment.getToName()).toLat(segment.getToLat()).toLng(segment.getToLng())
+                .distanceMeters(segment.getDistanceMeters())
+                .durationSeconds(segment.getDurationSeconds())
+                .fare(segment.getFare())
+                .summary(segment.getSummary())
+                .estimated(segment.isEstimated())
+                .steps(steps)
+                .build();
+    }
+}
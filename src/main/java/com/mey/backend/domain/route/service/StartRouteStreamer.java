@@ -0,0 +1,90 @@
+package com.mey.backend.domain.route.service;
+
+import com.mey.backend.domain.route.dto.PolylineOptions;
+import com.mey.backend.domain.route.dto.StartRouteSegmentEvent;
+import com.mey.backend.global.exception.RouteException;
+import com.mey.backend.global.payload.status.ErrorStatus;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Map;
+
+/**
+ * 루트 시작 구간을 SSE로 순서대로 전송하는 클래스
+ *
+ * - 루트/장소 조회는 요청 스레드에서 먼저 수행 (없는 루트 등은 일반 오류 응답)
+ * - 구간은 모두 동시에 조회하고, 현재 위치 → 첫 장소부터 준비되는 대로 "segment" 이벤트로 전송
+ * - 전송이 끝나면 "complete" 이벤트, 실패하면 "error" 이벤트 후 종료
+ * - 스트림 스레드 풀이 가득 차면 스트림을 열지 않고 503 응답
+ */
+@Slf4j
+@Component
+public class StartRouteStreamer {
+
+    private final RouteService routeService;
+    private final ThreadPoolTaskExecutor executor;
+
+    @Value("${route.start.stream-timeout-ms:30000}")
+    private long timeoutMillis;
+
+    public StartRouteStreamer(RouteService routeService,
+                              @Qualifier("routeStreamExecutor") ThreadPoolTaskExecutor executor) {
+        this.routeService = routeService;
+        this.executor = executor;
+    }
+
+    public SseEmitter stream(Long routeId, double latitude, double longitude, PolylineOptions polylineOptions) {
+        RouteService.StartRoutePlan plan = routeService.planStartRoute(routeId, latitude, longitude);
+        SseEmitter emitter = new SseEmitter(timeoutMillis);
+
+        try {
+            executor.execute(() -> streamSegments(emitter, routeId, plan, polylineOptions));
+        } catch (TaskRejectedException e) {
+            log.warn("루트 시작 스트림 풀 포화 - routeId: {}", routeId);
+            throw new RouteException(ErrorStatus.ROUTE_STREAM_BUSY);
+        }
+        return emitter;
+    }
+
+    private void streamSegments(SseEmitter emitter, Long routeId, RouteService.StartRoutePlan plan,
+                                PolylineOptions polylineOptions) {
+        try {
+            routeService.streamStartRoute(plan, polylineOptions, (index, segment) ->
+                    send(emitter, "segment", StartRouteSegmentEvent.builder()
+                            .index(index)
+                            .total(plan.segmentCount())
+                            .polylineFormat(polylineOptions.getFormat())
+                            .segment(segment)
+                            .build()));
+            send(emitter, "complete", Map.of("total", plan.segmentCount()));
+            emitter.complete();
+        } catch (UncheckedIOException e) {
+            // 클라이언트 연결 종료
+            log.debug("루트 시작 스트림 전송 중단 - routeId: {}, {}", routeId, e.getMessage());
+            emitter.completeWithError(e.getCause());
+        } catch (Exception e) {
+            log.warn("루트 시작 스트림 실패 - routeId: {}, {}", routeId, e.getMessage());
+            try {
+                send(emitter, "error", Map.of("message", "구간 조회 중 오류가 발생했습니다."));
+                emitter.complete();
+            } catch (UncheckedIOException ignored) {
+                emitter.completeWithError(e);
+            }
+        }
+    }
+
+    private static void send(SseEmitter emitter, String name, Object data) {
+        try {
+            emitter.send(SseEmitter.event().name(name).data(data));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -0,0 +1,92 @@
+package com.mey.backend.domain.route.service;
+
+import com.mey.backend.domain.place.entity.Place;
+import com.mey.backend.domain.place.repository.PlaceRepository;
+import com.mey.backend.domain.route.entity.Route;
+import com.mey.backend.domain.route.repository.RouteRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+
+/**
+ * JSON themes 컬럼을 정규화 테마 테이블(route_themes, place_themes)로 채우는 백필 작업
+ *
+ * - SQL 시드 데이터나 테이블 추가 이전에 저장된 행은 정규화 테마가 비어 있으므로 시작 시 한 번 채움
+ * - id 키셋으로 청크 단위 트랜잭션 처리 (테마가 없는 행도 한 번만 확인)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ThemeTagBackfiller {
+
+    private final RouteRepository routeRepository;
+    private final PlaceRepository placeRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${theme-tags.backfill.enabled:true}")
+    private boolean enabled;
+
+    @Value("${theme-tags.backfill.chunk-size:500}")
+    private int chunkSize;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onStartup() {
+        if (!enabled) {
+            return;
+        }
+        try {
+            int routes = backfillRoutes();
+            int places = backfillPlaces();
+            if (routes > 0 || places > 0) {
+                log.info("정규화 테마 백필 완료 - 루트: {}건, 장소: {}건", routes, places);
+            }
+        } catch (Exception e) {
+            log.warn("정규화 테마 백필 실패: {}", e.getMessage());
+        }
+    }
+
+    public int backfillRoutes() {
+        int total = 0;
+        long[] afterId = {0};
+        while (true) {
+            Integer processed = transactionTemplate.execute(status -> {
+                List<Route> chunk = routeRepository.findWithoutThemeTags(afterId[0], PageRequest.of(0, chunkSize));
+                chunk.forEach(Route::syncThemeTags);
+                if (!chunk.isEmpty()) {
+                    afterId[0] = chunk.get(chunk.size() - 1).getId();
+                }
+                return chunk.size();
+            });
+            if (processed == null || processed == 0) {
+                return total;
+            }
+            total += processed;
+        }
+    }
+
+    public int backfillPlaces() {
+        int total = 0;
+        long[] afterId = {0};
+        while (true) {
+            Integer processed = transactionTemplate.execute(status -> {
+                List<Place> chunk = placeRepository.findWithoutThemeTags(afterId[0], PageRequest.of(0, chunkSize));
+                chunk.forEach(Place::syncThemeTags);
+                if (!chunk.isEmpty()) {
+                    afterId[0] = chunk.get(chunk.size() - 1).getPlaceId();
+                }
+                return chunk.size();
+            });
+            if (processed == null || processed == 0) {
+                return total;
+            }
+            total += processed;
+        }
+    }
+}
@@ -0,0 +1,151 @@
+package com.mey.backend.domain.route.service;
+
+import com.mey.backend.domain.place.entity.Place;
+import org.springframework.stereotype.Component;
+
+import java.time.DayOfWeek;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.IntStream;
+
+/**
+ * 영업시간을 고려해 하루 일정의 방문 순서와 도착/출발 시각을 계산
+ *
+ * - sequence: 루트 생성 시 하루치 순서를 정함. 주어진 순서로 모든 장소가 영업시간 안에 방문 가능하면 유지,
+ *   아니면 (영업시간 위반 수, 일정 종료 시각) 기준 비트마스크 DP로 다시 계산 (12곳 이하). 결과는 visitOrder로 저장
+ * - simulate: 저장된 visitOrder 그대로 시각만 계산 (조회 API는 순서를 바꾸지 않음)
+ * - 영업 전 도착 시 개장까지 대기, 방문 가능한 구간이 없으면 도착 즉시 방문하고 위반으로 표시
+ */
+@Component
+public class TimeWindowSequencer {
+
+    private static final int EXACT_LIMIT = TspSolver.EXACT_LIMIT;
+
+    // placeId → 파싱된 영업시간 (원본 맵이 바뀌면 다시 파싱)
+    private final Map<Long, ParsedHours> hoursCache = new ConcurrentHashMap<>();
+
+    public record Stop(OpeningHours hours, int durationMinutes) {}
+
+    /**
+     * @param index 입력 stops 인덱스
+     * @param arrivalMinute 도착 시각 (자정 기준 분, 1440 이상이면 익일)
+     * @param startMinute 관람 시작 시각 (영업 전 도착 시 대기 후)
+     * @param withinHours 영업시간 안에 방문 가능한지 여부
+     */
+    public record Visit(int index, int arrivalMinute, int startMinute, int departureMinute, boolean withinHours) {}
+
+    public record Schedule(List<Visit> visits, int violations, int finishMinute) {}
+
+    public OpeningHours hoursOf(Place place) {
+        Map<String, String> raw = place.getOpeningHours();
+        ParsedHours cached = hoursCache.get(place.getPlaceId());
+        if (cached != null && Objects.equals(cached.source(), raw)) {
+            return cached.hours();
+        }
+        OpeningHours parsed = OpeningHours.parse(raw);
+        hoursCache.put(place.getPlaceId(), new ParsedHours(raw == null ? null : new HashMap<>(raw), parsed));
+        return parsed;
+    }
+
+    /**
+     * @param travelMinutes travelMinutes[i][j] = i → j 이동 시간(분)
+     */
+    public Schedule sequence(List<Stop> stops, DayOfWeek day, int startMinute, int[][] travelMinutes) {
+        int n = stops.size();
+        List<Integer> given = IntStream.range(0, n).boxed().toList();
+        Schedule current = simulate(stops, given, day, startMinute, travelMinutes);
+        if (current.violations() == 0 || n > EXACT_LIMIT) {
+            return current;
+        }
+
+        Schedule best = simulate(stops, solve(stops, day, startMinute, travelMinutes), day, startMinute, travelMinutes);
+        return best.violations() < current.violations() ? best : current;
+    }
+
+    public Schedule simulate(List<Stop> stops, List<Integer> order, DayOfWeek day, int startMinute, int[][] travelMinutes) {
+        List<Visit> visits = new ArrayList<>(order.size());
+        int time = startMinute;
+        int violations = 0;
+        int prev = -1;
+        for (int idx : order) {
+            int arrival = prev < 0 ? time : time + travelMinutes[prev][idx];
+            Stop stop = stops.get(idx);
+            int start = stop.hours().earliestStart(day, arrival, stop.durationMinutes());
+            boolean within = start >= 0;
+            if (!within) {
+                start = arrival;
+                violations++;
+            }
+            time = start + stop.durationMinutes();
+            visits.add(new Visit(idx, arrival, start, time, within));
+            prev = idx;
+        }
+        return new Schedule(visits, violations, time);
+    }
+
+    // dp[mask][last] = (위반 수, 종료 시각) 사전순 최소
+    private List<Integer> solve(List<Stop> stops, DayOfWeek day, int startMinute, int[][] travelMinutes) {
+        int n = stops.size();
+        int full = 1 << n;
+        int[][] violations = new int[full][n];
+        int[][] finish = new int[full][n];
+        int[][] parent = new int[full][n];
+        for (int mask = 0; mask < full; mask++) {
+            Arrays.fill(violations[mask], Integer.MAX_VALUE);
+        }
+
+        for (int j = 0; j < n; j++) {
+            int start = stops.get(j).hours().earliestStart(day, startMinute, stops.get(j).durationMinutes());
+            violations[1 << j][j] = start >= 0 ? 0 : 1;
+            finish[1 << j][j] = (start >= 0 ? start : startMinute) + stops.get(j).durationMinutes();
+            parent[1 << j][j] = -1;
+        }
+
+        for (int mask = 1; mask < full; mask++) {
+            for (int last = 0; last < n; last++) {
+                if (violations[mask][last] == Integer.MAX_VALUE) continue;
+                for (int next = 0; next < n; next++) {
+                    if ((mask & (1 << next)) != 0) continue;
+                    Stop stop = stops.get(next);
+                    int arrival = finish[mask][last] + travelMinutes[last][next];
+                    int start = stop.hours().earliestStart(day, arrival, stop.durationMinutes());
+                    int v = violations[mask][last] + (start >= 0 ? 0 : 1);
+                    int f = (start >= 0 ? start : arrival) + stop.durationMinutes();
+
+                    int nextMask = mask | (1 << next);
+                    if (v < violations[nextMask][next]
+                            || (v == violations[nextMask][next] && f < finish[nextMask][next])) {
+                        violations[nextMask][next] = v;
+                        finish[nextMask][next] = f;
+                        parent[nextMask][next] = last;
+                    }
+                }
+            }
+        }
+
+        int mask = full - 1;
+        int last = 0;
+        for (int j = 1; j < n; j++) {
+            if (violations[mask][j] < violations[mask][last]
+                    || (violations[mask][j] == violations[mask][last] && finish[mask][j] < finish[mask][last])) {
+                last = j;
+            }
+        }
+
+        Integer[] order = new Integer[n];
+        for (int pos = n - 1; pos >= 0; pos--) {
+            order[pos] = last;
+            int prev = parent[mask][last];
+            mask &= ~(1 << last);
+            last = prev;
+        }
+        return Arrays.asList(order);
+    }
+
+    private record ParsedHours(Map<String, String> source, OpeningHours hours) {}
+}
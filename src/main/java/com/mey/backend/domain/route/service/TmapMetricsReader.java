@@ -0,0 +1,117 @@
+package com.mey.backend.domain.route.service;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.mey.backend.domain.route.dto.TransitMetricsDto;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * TMAP 대중교통 응답에서 총 거리/소요시간/요금만 읽는 스트리밍 파서
+ *
+ * metaData.plan.itineraries[0]의 fare.regular.totalFare와 legs[].sectionTime/distance만 읽고,
+ * passShape, steps.linestring 등 나머지 하위 트리는 객체로 만들지 않고 건너뜁니다.
+ * 첫 번째 itinerary를 읽으면 나머지 응답은 읽지 않습니다.
+ */
+final class TmapMetricsReader {
+
+    private static final JsonFactory JSON_FACTORY = new JsonFactory();
+
+    private TmapMetricsReader() {
+    }
+
+    /**
+     * @return 합계, itinerary가 없으면 null
+     */
+    static TransitMetricsDto read(InputStream in) throws IOException {
+        try (JsonParser p = JSON_FACTORY.createParser(in)) {
+            if (p.nextToken() != JsonToken.START_OBJECT) {
+                return null;
+            }
+            if (!moveToField(p, "metaData") || !moveToField(p, "plan") || !moveToField(p, "itineraries")) {
+                return null;
+            }
+            if (p.currentToken() != JsonToken.START_ARRAY || p.nextToken() != JsonToken.START_OBJECT) {
+                return null;
+            }
+            return readItinerary(p);
+        }
+    }
+
+    // 현재 객체에서 name 필드 값으로 이동 (다른 필드는 건너뜀)
+    private static boolean moveToField(JsonParser p, String name) throws IOException {
+        if (p.currentToken() != JsonToken.START_OBJECT) {
+            return false;
+        }
+        while (p.nextToken() == JsonToken.FIELD_NAME) {
+            String field = p.currentName();
+            p.nextToken();
+            if (name.equals(field)) {
+                return true;
+            }
+            p.skipChildren();
+        }
+        return false;
+    }
+
+    private static TransitMetricsDto readItinerary(JsonParser p) throws IOException {
+        int fare = 0;
+        double distance = 0;
+        double duration = 0;
+
+        while (p.nextToken() == JsonToken.FIELD_NAME) {
+            String field = p.currentName();
+            JsonToken value = p.nextToken();
+            if ("fare".equals(field) && value == JsonToken.START_OBJECT) {
+                fare = readTotalFare(p);
+            } else if ("legs".equals(field) && value == JsonToken.START_ARRAY) {
+                while (p.nextToken() == JsonToken.START_OBJECT) {
+                    while (p.nextToken() == JsonToken.FIELD_NAME) {
+                        String legField = p.currentName();
+                        p.nextToken();
+                        if ("sectionTime".equals(legField)) {
+                            duration += Math.round(p.getValueAsDouble(0));
+                        } else if ("distance".equals(legField)) {
+                            distance += Math.round(p.getValueAsDouble(0));
+                        } else {
+                            p.skipChildren();
+                        }
+                    }
+                }
+            } else {
+                p.skipChildren();
+            }
+        }
+
+        return TransitMetricsDto.builder()
+                .distanceMeters((int) distance)
+                .durationSeconds((int) duration)
+                .fare(fare)
+                .build();
+    }
+
+    // fare 객체 안의 regular.totalFare
+    private static int readTotalFare(JsonParser p) throws IOException {
+        int totalFare = 0;
+        while (p.nextToken() == JsonToken.FIELD_NAME) {
+            String field = p.currentName();
+            JsonToken value = p.nextToken();
+            if ("regular".equals(field) && value == JsonToken.START_OBJECT) {
+                while (p.nextToken() == JsonToken.FIELD_NAME) {
+                    String regularField = p.currentName();
+                    p.nextToken();
+                    if ("totalFare".equals(regularField)) {
+                        totalFare = p.getValueAsInt(0);
+                    } else {
+                        p.skipChildren();
+                    }
+                }
+            } else {
+                p.skipChildren();
+            }
+        }
+        return totalFare;
+    }
+}
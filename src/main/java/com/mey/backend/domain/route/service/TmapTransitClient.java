@@ -1,25 +1,43 @@
 package com.mey.backend.domain.route.service;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.mey.backend.domain.route.dto.*;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatusCode;
 import org.springframework.http.MediaType;
+import org.springframework.http.client.SimpleClientHttpRequestFactory;
+import org.springframework.http.converter.HttpMessageNotReadableException;
 import org.springframework.stereotype.Component;
+import org.springframework.web.client.ResourceAccessException;
 import org.springframework.web.client.RestClient;
+import org.springframework.web.client.RestClientException;
 
 import jakarta.annotation.PostConstruct;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
 import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
 import java.util.ArrayList;
 import java.util.List;
 
+/**
+ * TMAP 대중교통 API 클라이언트
+ *
+ * - 연결 실패, 시간 초과(ResourceAccessException), 5xx/429 응답은 TransitUnavailableException으로 던짐 (서킷 브레이커 집계 대상)
+ * - 경로 없음, 그 밖의 4xx, 응답 파싱 실패(JSON 오류, 변환 실패)는 도보 추정값 반환 (API는 응답했으므로 정상)
+ */
 @Slf4j
 @Component
 @RequiredArgsConstructor
 public class TmapTransitClient implements TransitClient {
 
+    // 출발 시각 (없으면 TMAP이 현재 시각 기준으로 탐색)
+    private static final DateTimeFormatter SEARCH_DTTM = DateTimeFormatter.ofPattern("yyyyMMddHHmm");
 
     @Value("${tmap.transit.base-url}")
     private String baseUrl;
@@ -33,12 +51,24 @@ public class TmapTransitClient implements TransitClient {
     @Value("${tmap.transit.count:1}")
     private int count;
 
+    @Value("${tmap.transit.connect-timeout:PT2S}")
+    private Duration connectTimeout;
+
+    @Value("${tmap.transit.read-timeout:PT5S}")
+    private Duration readTimeout;
+
     private RestClient rest;
 
     @PostConstruct
     void init() {
+        // 타임아웃이 없으면 느린 응답이 호출 스레드를 무기한 점유
+        SimpleClientHttpRequestFactory requestFactory = new SimpleClientHttpRequestFactory();
+        requestFactory.setConnectTimeout(connectTimeout);
+        requestFactory.setReadTimeout(readTimeout);
+
         this.rest = RestClient.builder()
                 .baseUrl(baseUrl)
+                .requestFactory(requestFactory)
                 .defaultHeader(HttpHeaders.ACCEPT, MediaType.APPLICATION_JSON_VALUE)
                 .defaultHeader("appKey", appKey)
                 .build();
@@ -57,6 +87,7 @@ public class TmapTransitClient implements TransitClient {
         body.put("endY",   toLat);
         body.put("count",  count);
         body.put("lang",   lang);
+        if (departureTime != null) body.put("searchDttm", departureTime.format(SEARCH_DTTM));
 
         JsonNode root;
         try {
@@ -67,11 +98,21 @@ public class TmapTransitClient implements TransitClient {
                     .retrieve()
                     .body(JsonNode.class);
         } catch (org.springframework.web.client.RestClientResponseException ex) {
+            if (isUnavailable(ex.getStatusCode())) {
+                throw new TransitUnavailableException("TMAP " + ex.getStatusCode().value(), ex);
+            }
             log.warn("[TMAP] {} {}: {}", ex.getRawStatusCode(), ex.getStatusText(),
                     ex.getResponseBodyAsString());
             return walkFallback(fromName, fromLat, fromLng, toName, toLat, toLng);
-        } catch (Exception e) {
-            log.warn("[TMAP] 호출 실패: {}", e.getMessage());
+        } catch (ResourceAccessException e) {
+            // 연결 실패, 시간 초과, 응답 읽기 중 I/O 오류
+            throw new TransitUnavailableException("TMAP 호출 실패: " + e.getMessage(), e);
+        } catch (RestClientException e) {
+            if (isReadFailure(e)) {
+                throw new TransitUnavailableException("TMAP 응답 읽기 실패: " + e.getMessage(), e);
+            }
+            // 본문을 JSON으로 변환하지 못함 (HttpMessageNotReadableException 등)
+            log.warn("[TMAP] 응답 파싱 실패: {}", e.getMessage());
             return walkFallback(fromName, fromLat, fromLng, toName, toLat, toLng);
         }
 
@@ -116,13 +157,13 @@ public class TmapTransitClient implements TransitClient {
                 Integer numStops = leg.path("passStopList").path("stations").isMissingNode()
                         ? null : leg.path("passStopList").path("stations").size();
 
-                List<LatLngDto> polyline = new ArrayList<>();
+                PackedPolyline.Builder polyline = PackedPolyline.builder();
                 if ("WALK".equals(mode) && leg.has("steps")) {
                     for (JsonNode s : leg.path("steps")) {
-                        polyline.addAll(parseLinestring(s.path("linestring").asText("")));
+                        LinestringParser.parseInto(s.path("linestring").asText(""), polyline);
                     }
                 } else {
-                    polyline.addAll(parseLinestring(leg.path("passShape").path("linestring").asText("")));
+                    LinestringParser.parseInto(leg.path("passShape").path("linestring").asText(""), polyline);
                 }
 
                 String startName = leg.path("start").path("name").asText(null);
@@ -135,7 +176,7 @@ public class TmapTransitClient implements TransitClient {
                         .lineName(lineName)
                         .headsign(null)
                         .numStops(numStops)
-                        .polyline(polyline);
+                        .polyline(polyline.build());
 
                 steps.add(step.build());
 
@@ -159,22 +200,6 @@ public class TmapTransitClient implements TransitClient {
         }
     }
 
-    // 좌표 문자열 → LatLngDto 리스트
-    private List<LatLngDto> parseLinestring(String lines) {
-        List<LatLngDto> list = new ArrayList<>();
-        if (lines == null || lines.isBlank()) return list;
-        String[] pairs = lines.trim().split("\\s+");
-        for (String pair : pairs) {
-            String[] ll = pair.split(",");
-            if (ll.length == 2) {
-                double lon = Double.parseDouble(ll[0]);
-                double lat = Double.parseDouble(ll[1]);
-                list.add(LatLngDto.builder().lat(lat).lng(lon).build());
-            }
-        }
-        return list;
-    }
-
     // Tmap mode 문자열을 내부 enum으로 변환
     private TransitStepDto.Mode mapMode(String mode) {
         return switch (mode) {
@@ -214,108 +239,72 @@ public class TmapTransitClient implements TransitClient {
         body.put("endY",   toLat);
         body.put("count",  count);
         body.put("lang",   lang);
+        if (departureTime != null) body.put("searchDttm", departureTime.format(SEARCH_DTTM));
 
-        JsonNode root;
+        // 전체 트리를 만들지 않고 합계 필드만 스트리밍으로 읽음
+        TransitMetricsDto metrics;
         try {
-            root = rest.post()
+            metrics = rest.post()
                     .uri("/routes?version=1&format=json")
                     .contentType(MediaType.APPLICATION_JSON)
                     .body(body)
-                    .retrieve()
-                    .body(JsonNode.class);
-        } catch (org.springframework.web.client.RestClientResponseException ex) {
-            log.warn("[TMAP] {} {}: {}", ex.getRawStatusCode(), ex.getStatusText(), ex.getResponseBodyAsString());
-            // 실패 시 도보 폴백 합계만 계산
-            int dist = haversineMeters(fromLat, fromLng, toLat, toLng);
-            return TransitMetricsDto.builder()
-                    .distanceMeters(dist)
-                    .durationSeconds((int)Math.round(dist / 1.2))
-                    .fare(0)
-                    .build();
-        } catch (Exception e) {
-            log.warn("[TMAP] 호출 실패: {}", e.getMessage());
-            int dist = haversineMeters(fromLat, fromLng, toLat, toLng);
-            return TransitMetricsDto.builder()
-                    .distanceMeters(dist)
-                    .durationSeconds((int)Math.round(dist / 1.2))
-                    .fare(0)
-                    .build();
-        }
-
-        try {
-            JsonNode it = root.path("metaData").path("plan").path("itineraries").get(0);
-            if (it == null || it.isMissingNode()) {
-                log.warn("[TMAP] itineraries 비어있음: {}", root);
-                int dist = haversineMeters(fromLat, fromLng, toLat, toLng);
-                return TransitMetricsDto.builder()
-                        .distanceMeters(dist)
-                        .durationSeconds((int)Math.round(dist / 1.2))
-                        .fare(0)
-                        .build();
-            }
-
-            int totalFare = it.path("fare").path("regular").path("totalFare").asInt(0);
-            JsonNode legs = it.path("legs");
-
-            int sumDistance = 0;
-            int sumDuration = 0;
-
-            for (JsonNode leg : legs) {
-                int sectionTimeSec = (int)Math.round(leg.path("sectionTime").asDouble(0));
-                int legDistance    = (int)Math.round(leg.path("distance").asDouble(0));
-                sumDuration += sectionTimeSec;
-                sumDistance += legDistance;
+                    .exchange((request, response) -> {
+                        if (isUnavailable(response.getStatusCode())) {
+                            throw new TransitUnavailableException("TMAP " + response.getStatusCode().value());
+                        }
+                        if (response.getStatusCode().isError()) {
+                            log.warn("[TMAP] {}: {}", response.getStatusCode().value(),
+                                    new String(response.getBody().readAllBytes(), StandardCharsets.UTF_8));
+                            return null;
+                        }
+                        try {
+                            TransitMetricsDto read = TmapMetricsReader.read(response.getBody());
+                            if (read == null) {
+                                log.warn("[TMAP] itineraries 비어있음");
+                            }
+                            return read;
+                        } catch (JsonProcessingException e) {
+                            // 잘못된 JSON은 파싱 실패 (그 밖의 IOException은 읽기 실패로 전파)
+                            log.warn("[TMAP] 응답 파싱 실패: {}", e.getOriginalMessage());
+                            return null;
+                        }
+                    });
+        } catch (TransitUnavailableException e) {
+            throw e;
+        } catch (ResourceAccessException e) {
+            // 연결 실패, 시간 초과, 응답 읽기 실패 (RestClient가 IOException을 ResourceAccessException으로 감쌈)
+            throw new TransitUnavailableException("TMAP 호출 실패: " + e.getMessage(), e);
+        } catch (RestClientException e) {
+            if (isReadFailure(e)) {
+                throw new TransitUnavailableException("TMAP 응답 읽기 실패: " + e.getMessage(), e);
             }
+            log.warn("[TMAP] 응답 처리 실패: {}", e.getMessage());
+            metrics = null;
+        }
 
-            return TransitMetricsDto.builder()
-                    .distanceMeters(sumDistance)
-                    .durationSeconds(sumDuration)
-                    .fare(totalFare)
-                    .build();
-
-        } catch (Exception e) {
-            log.warn("[TMAP] 응답 파싱 실패: {}", e.getMessage());
-            int dist = haversineMeters(fromLat, fromLng, toLat, toLng);
-            return TransitMetricsDto.builder()
-                    .distanceMeters(dist)
-                    .durationSeconds((int)Math.round(dist / 1.2))
-                    .fare(0)
-                    .build();
+        if (metrics == null) {
+            // 경로 없음/요청 오류/파싱 실패 시 도보 폴백 합계만 계산
+            return WalkSegmentFactory.metrics(fromLat, fromLng, toLat, toLng);
         }
+        return metrics;
     }
 
-    // API 실패시 하버사인 기반 도보 폴백
-    private TransitSegmentDto walkFallback(String fromName, double fromLat, double fromLng,
-                                           String toName, double toLat, double toLng) {
-        int dist = haversineMeters(fromLat, fromLng, toLat, toLng);
-        return TransitSegmentDto.builder()
-                .fromName(fromName).fromLat(fromLat).fromLng(fromLng)
-                .toName(toName).toLat(toLat).toLng(toLng)
-                .distanceMeters(dist)
-                .durationSeconds((int)Math.round(dist / 1.2)) // 도보 1.2m/s
-                .fare(0)
-                .summary("도보")
-                .steps(List.of(
-                        TransitStepDto.builder()
-                                .mode(TransitStepDto.Mode.WALK)
-                                .instruction("도보 이동(폴백)")
-                                .distanceMeters(dist)
-                                .durationSeconds((int)Math.round(dist / 1.2))
-                                .build()
-                ))
-                .build();
+    // 서버 오류나 호출 제한이면 API 장애로 간주
+    private static boolean isUnavailable(HttpStatusCode status) {
+        return status.is5xxServerError() || status.value() == 429;
     }
 
+    // 본문 변환 중 I/O 오류 (RestClient가 원인을 감싸 RestClientException으로 던짐), JSON 오류는 제외
+    private static boolean isReadFailure(RestClientException e) {
+        Throwable cause = e.getCause();
+        return cause instanceof IOException
+                && !(cause instanceof JsonProcessingException)
+                && !(cause instanceof HttpMessageNotReadableException);
+    }
 
-    // 위도/경도 기반 직선거리 계산
-    private static int haversineMeters(double lat1, double lon1, double lat2, double lon2) {
-        double R = 6371000.0;
-        double dLat = Math.toRadians(lat2 - lat1);
-        double dLon = Math.toRadians(lon2 - lon1);
-        double a = Math.sin(dLat / 2) * Math.sin(dLat / 2)
-                + Math.cos(Math.toRadians(lat1)) * Math.cos(Math.toRadians(lat2))
-                * Math.sin(dLon / 2) * Math.sin(dLon / 2);
-        double c = 2 * Math.atan2(Math.sqrt(a), Math.sqrt(1 - a));
-        return (int) Math.round(R * c);
+    // 경로 없음/요청 오류 시 하버사인 기반 도보 폴백
+    private TransitSegmentDto walkFallback(String fromName, double fromLat, double fromLng,
+                                           String toName, double toLat, double toLng) {
+        return WalkSegmentFactory.segment(fromName, fromLat, fromLng, toName, toLat, toLng);
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,163 @@
+package com.mey.backend.domain.route.service;
+
+import com.mey.backend.domain.place.entity.Place;
+import com.mey.backend.domain.route.dto.TransitMetricsDto;
+import com.mey.backend.domain.route.dto.TransitSegmentDto;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * 루트의 여러 구간을 병렬로 조회하고 방문 순서대로 다시 모으는 클래스
+ *
+ * - transitFetchExecutor(고정 크기 스레드 풀)에서 구간별로 동시에 호출
+ * - 요청 단위 마감 시간(route.transit.request-deadline-ms)까지 끝나지 않거나 실패한 구간은 도보 폴백
+ * - 포기한 구간은 Future.cancel(true)로 취소: 대기 중이면 실행하지 않고, 실행 중이면 작업 스레드를 인터럽트
+ * - 지연 시간은 구간 합이 아니라 가장 느린 구간 수준
+ */
+@Slf4j
+@Component
+public class TransitLegFetcher {
+
+    private final TransitClient transitClient;
+    private final TravelMatrixStore travelMatrixStore;
+    private final ThreadPoolTaskExecutor executor;
+
+    @Value("${route.transit.request-deadline-ms:8000}")
+    private long deadlineMillis;
+
+    public TransitLegFetcher(TransitClient transitClient,
+                             TravelMatrixStore travelMatrixStore,
+                             @Qualifier("transitFetchExecutor") ThreadPoolTaskExecutor executor) {
+        this.transitClient = transitClient;
+        this.travelMatrixStore = travelMatrixStore;
+        this.executor = executor;
+    }
+
+    /**
+     * 구간 좌표/이름 (작업 스레드에서 지연 로딩 엔티티를 건드리지 않도록 호출 스레드에서 미리 추출)
+     */
+    public record Leg(String fromName, Long fromPlaceId, double fromLat, double fromLng,
+                      String toName, Long toPlaceId, double toLat, double toLng) {
+
+        public static Leg between(Place from, Place to) {
+            return new Leg(from.getNameKo(), from.getPlaceId(), from.getLatitude(), from.getLongitude(),
+                    to.getNameKo(), to.getPlaceId(), to.getLatitude(), to.getLongitude());
+        }
+
+        public static Leg fromLocation(String fromName, double fromLat, double fromLng, Place to) {
+            return new Leg(fromName, null, fromLat, fromLng,
+                    to.getNameKo(), to.getPlaceId(), to.getLatitude(), to.getLongitude());
+        }
+    }
+
+    public List<TransitSegmentDto> routes(List<Leg> legs) {
+        return routes(legs, null);
+    }
+
+    // departureTime이 null이면 현재 시각 기준
+    public List<TransitSegmentDto> routes(List<Leg> legs, LocalDateTime departureTime) {
+        return fetchAll(legs, routeCall(departureTime), TransitLegFetcher::walkSegment);
+    }
+
+    /**
+     * 모든 구간을 동시에 조회하되, 결과는 구간 순서대로 준비되는 즉시 sink에 전달합니다.
+     * 마감 시간까지 끝나지 않거나 실패한 구간은 도보 폴백을 전달합니다.
+     * sink가 예외를 던지면(클라이언트 연결 종료 등) 아직 전달하지 않은 구간의 조회를 취소하고 예외를 그대로 던집니다.
+     */
+    public void routesInOrder(List<Leg> legs, LocalDateTime departureTime, Consumer<TransitSegmentDto> sink) {
+        long deadline = deadlineFromNow();
+        List<Future<TransitSegmentDto>> futures = submitAll(legs, routeCall(departureTime));
+
+        int next = 0;
+        try {
+            for (; next < legs.size(); next++) {
+                TransitSegmentDto result = await(futures.get(next), deadline);
+                sink.accept(result != null ? result : walkSegment(legs.get(next)));
+            }
+        } catch (RuntimeException e) {
+            futures.subList(next, futures.size()).forEach(future -> future.cancel(true));
+            throw e;
+        }
+    }
+
+    public List<TransitMetricsDto> metrics(List<Leg> legs) {
+        return fetchAll(legs,
+                leg -> travelMatrixStore.getOrFetch(leg.fromPlaceId(), leg.fromLat(), leg.fromLng(),
+                        leg.toPlaceId(), leg.toLat(), leg.toLng(), null),
+                leg -> WalkSegmentFactory.metrics(leg.fromLat(), leg.fromLng(), leg.toLat(), leg.toLng()));
+    }
+
+    private <T> List<T> fetchAll(List<Leg> legs, Function<Leg, T> call, Function<Leg, T> fallback) {
+        if (legs.isEmpty()) {
+            return List.of();
+        }
+        long start = System.nanoTime();
+        long deadline = deadlineFromNow();
+        List<Future<T>> futures = submitAll(legs, call);
+
+        List<T> results = new ArrayList<>(legs.size());
+        int fallbacks = 0;
+        for (int i = 0; i < legs.size(); i++) {
+            T result = await(futures.get(i), deadline);
+            if (result == null) {
+                result = fallback.apply(legs.get(i));
+                fallbacks++;
+            }
+            results.add(result);
+        }
+        log.debug("구간 병렬 조회 - 구간 수: {}, 폴백: {}, 소요: {}ms",
+                legs.size(), fallbacks, (System.nanoTime() - start) / 1_000_000);
+        return results;
+    }
+
+    // CompletableFuture.cancel은 실행 중인 스레드를 인터럽트하지 않으므로 executor.submit의 FutureTask 사용
+    private <T> List<Future<T>> submitAll(List<Leg> legs, Function<Leg, T> call) {
+        return legs.stream()
+                .map(leg -> executor.submit(() -> call.apply(leg)))
+                .toList();
+    }
+
+    // 요청 단위 마감 시각까지 기다린 결과, 실패하거나 시간이 지나면 조회를 취소하고 null
+    private <T> T await(Future<T> future, long deadlineNanos) {
+        try {
+            T result = future.get(Math.max(0, deadlineNanos - System.nanoTime()), TimeUnit.NANOSECONDS);
+            if (result != null) {
+                return result;
+            }
+        } catch (TimeoutException e) {
+            log.debug("구간 조회 마감 시간 초과 ({}ms), 도보 폴백", deadlineMillis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (Exception e) {
+            log.debug("구간 조회 실패, 도보 폴백: {}", e.getMessage());
+        }
+        future.cancel(true);
+        return null;
+    }
+
+    private long deadlineFromNow() {
+        return System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(deadlineMillis);
+    }
+
+    private Function<Leg, TransitSegmentDto> routeCall(LocalDateTime departureTime) {
+        return leg -> transitClient.route(leg.fromName(), leg.fromLat(), leg.fromLng(),
+                leg.toName(), leg.toLat(), leg.toLng(), departureTime);
+    }
+
+    private static TransitSegmentDto walkSegment(Leg leg) {
+        return WalkSegmentFactory.segment(leg.fromName(), leg.fromLat(), leg.fromLng(),
+                leg.toName(), leg.toLat(), leg.toLng());
+    }
+}
@@ -0,0 +1,17 @@
+package com.mey.backend.domain.route.service;
+
+/**
+ * 외부 교통 API에 닿지 못했거나 서버 측 오류(5xx, 429)로 응답을 받지 못한 경우
+ *
+ * - 경로 없음 같은 정상 응답과 구분해 ResilientTransitClient가 이 경우만 장애로 집계
+ */
+public class TransitUnavailableException extends RuntimeException {
+
+    public TransitUnavailableException(String message) {
+        super(message);
+    }
+
+    public TransitUnavailableException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
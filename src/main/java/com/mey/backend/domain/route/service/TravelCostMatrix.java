@@ -0,0 +1,186 @@
+package com.mey.backend.domain.route.service;
+
+import com.mey.backend.domain.route.dto.CoordinateDto;
+import com.mey.backend.domain.route.dto.TransitMetricsDto;
+import com.mey.backend.domain.route.entity.TimeBucket;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * 방문 순서 계산에 쓰는 장소 간 비용 행렬 생성기
+ *
+ * - DISTANCE: 하버사인 직선거리 (미터)
+ * - DURATION: 대중교통 소요시간 (초)
+ * - BLENDED: 소요시간 + 요금 × fare-weight (초 환산)
+ * 소요시간 기반 행렬은 TravelMatrixStore의 값을 우선 사용하고, 없는 칸 중 각 지점에서 가까운
+ * fetch-neighbours곳으로 가는 칸만 가까운 쌍부터 최대 max-fetch-pairs개를 병렬로 조회합니다.
+ * (최적 경로는 대부분 가까운 이웃 사이를 지나므로 n·(n−1)칸을 모두 조회하지 않음) 마감 시간 안에 못 받은 칸은 직선거리 기반 추정값으로 채웁니다.
+ */
+@Slf4j
+@Component
+public class TravelCostMatrix {
+
+    public enum Objective { DISTANCE, DURATION, BLENDED }
+
+    private static final int ESTIMATED_TRANSIT_FARE = 1400; // 추정 시 기본 요금 (원)
+    private static final int WALK_ONLY_METERS = 1000;
+
+    private final TravelMatrixStore travelMatrixStore;
+    private final ThreadPoolTaskExecutor executor;
+
+    @Value("${route.planner.objective:duration}")
+    private String objectiveName;
+
+    private Objective objective;
+
+    @Value("${route.planner.cost.fare-weight:0.1}")
+    private double fareWeight; // 요금 1원당 초
+
+    @Value("${route.planner.cost.fetch-deadline-ms:2000}")
+    private long fetchDeadlineMillis;
+
+    @Value("${route.planner.cost.max-fetch-pairs:60}")
+    private int maxFetchPairs;
+
+    @Value("${route.planner.cost.fetch-neighbours:3}")
+    private int fetchNeighbours;
+
+    public TravelCostMatrix(TravelMatrixStore travelMatrixStore,
+                            @Qualifier("transitFetchExecutor") ThreadPoolTaskExecutor executor) {
+        this.travelMatrixStore = travelMatrixStore;
+        this.executor = executor;
+    }
+
+    @PostConstruct
+    void init() {
+        objective = Objective.valueOf(objectiveName.trim().toUpperCase());
+    }
+
+    public Objective objective() {
+        return objective;
+    }
+
+    /**
+     * @return cost[i][j] = i → j 이동 비용 (비대칭일 수 있음)
+     */
+    public double[][] build(List<CoordinateDto> points) {
+        double[][] straight = GeoUtils.haversineMatrix(points);
+        if (objective == Objective.DISTANCE) {
+            return straight;
+        }
+
+        int n = points.size();
+        double[][] cost = new double[n][n];
+        TimeBucket bucket = TimeBucket.of(null);
+        List<int[]> missing = new ArrayList<>();
+
+        for (int i = 0; i < n; i++) {
+            for (int j = 0; j < n; j++) {
+                if (i == j) continue;
+                Optional<TransitMetricsDto> cached =
+                        travelMatrixStore.find(points.get(i).getPlaceId(), points.get(j).getPlaceId(), bucket);
+                if (cached.isPresent()) {
+                    cost[i][j] = toCost(cached.get());
+                } else {
+                    cost[i][j] = estimate(straight[i][j]);
+                    missing.add(new int[]{i, j});
+                }
+            }
+        }
+
+        if (!missing.isEmpty() && maxFetchPairs > 0) {
+            fetchMissing(points, straight, cost, missing);
+        }
+        return cost;
+    }
+
+    // 각 지점의 가까운 이웃으로 가는 칸만 가까운 쌍부터 병렬 조회, 마감 시간까지 받은 값만 반영
+    private void fetchMissing(List<CoordinateDto> points, double[][] straight, double[][] cost, List<int[]> missing) {
+        boolean[][] candidate = nearestNeighbours(straight);
+        List<int[]> targets = missing.stream()
+                .filter(pair -> candidate[pair[0]][pair[1]])
+                .sorted(Comparator.comparingDouble(pair -> straight[pair[0]][pair[1]]))
+                .limit(maxFetchPairs)
+                .toList();
+        if (targets.isEmpty()) {
+            return;
+        }
+
+        List<CompletableFuture<TransitMetricsDto>> futures = new ArrayList<>(targets.size());
+        for (int[] pair : targets) {
+            CoordinateDto from = points.get(pair[0]);
+            CoordinateDto to = points.get(pair[1]);
+            futures.add(CompletableFuture.supplyAsync(() -> travelMatrixStore.getOrFetch(
+                    from.getPlaceId(), from.getLat(), from.getLng(),
+                    to.getPlaceId(), to.getLat(), to.getLng(), null), executor));
+        }
+
+        try {
+            CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new))
+                    .get(fetchDeadlineMillis, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            log.debug("이동 비용 조회 마감 시간 초과 ({}ms), 나머지는 추정값 사용", fetchDeadlineMillis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (Exception e) {
+            // 실패한 칸은 추정값 유지
+        }
+
+        int fetched = 0;
+        for (int k = 0; k < targets.size(); k++) {
+            CompletableFuture<TransitMetricsDto> future = futures.get(k);
+            if (!future.isDone() || future.isCompletedExceptionally()) continue;
+            TransitMetricsDto metrics = future.join();
+            if (metrics != null && !metrics.isEstimated()) {
+                int[] pair = targets.get(k);
+                cost[pair[0]][pair[1]] = toCost(metrics);
+                fetched++;
+            }
+        }
+        log.debug("이동 비용 행렬 - 미보유: {}, 조회 대상: {}, 반영: {}", missing.size(), targets.size(), fetched);
+    }
+
+    // candidate[i][j] = j가 i에서 가장 가까운 fetchNeighbours곳 중 하나
+    private boolean[][] nearestNeighbours(double[][] straight) {
+        int n = straight.length;
+        boolean[][] candidate = new boolean[n][n];
+        for (int i = 0; i < n; i++) {
+            int from = i;
+            List<Integer> others = new ArrayList<>(n - 1);
+            for (int j = 0; j < n; j++) {
+                if (j != i) others.add(j);
+            }
+            others.sort(Comparator.comparingDouble(j -> straight[from][j]));
+            for (int k = 0; k < Math.min(fetchNeighbours, others.size()); k++) {
+                candidate[i][others.get(k)] = true;
+            }
+        }
+        return candidate;
+    }
+
+    private double toCost(TransitMetricsDto metrics) {
+        return objective == Objective.BLENDED
+                ? metrics.getDurationSeconds() + fareWeight * metrics.getFare()
+                : metrics.getDurationSeconds();
+    }
+
+    private double estimate(double straightMeters) {
+        double seconds = GeoUtils.estimateTravelSeconds(straightMeters);
+        if (objective == Objective.BLENDED && straightMeters > WALK_ONLY_METERS) {
+            seconds += fareWeight * ESTIMATED_TRANSIT_FARE;
+        }
+        return seconds;
+    }
+}
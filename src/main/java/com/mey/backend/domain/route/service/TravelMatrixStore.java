@@ -0,0 +1,375 @@
+package com.mey.backend.domain.route.service;
+
+import com.mey.backend.domain.place.entity.Place;
+import com.mey.backend.domain.place.repository.PlaceRepository;
+import com.mey.backend.domain.route.dto.TransitMetricsDto;
+import com.mey.backend.domain.route.entity.TimeBucket;
+import com.mey.backend.domain.route.entity.TravelMatrixEntry;
+import com.mey.backend.domain.route.repository.TravelMatrixEntryRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 장소 간 이동 지표(거리/소요시간/요금) 행렬 저장소
+ *
+ * - (출발 placeId, 도착 placeId, 시간대)를 long 하나로 묶은 키의 open addressing 테이블에 원시 배열로 보관
+ * - 조회 실패 시 TransitClient.metrics로 채우고, 추정값(폴백)은 저장하지 않음
+ * - 새 값은 travel_matrix 테이블에 모아서 기록하고, 기동 시 전체를 메모리로 적재
+ * - 오래된 값은 백그라운드에서 조금씩 다시 조회
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class TravelMatrixStore {
+
+    private static final int PLACE_ID_BITS = 30;
+    private static final long PLACE_ID_MASK = (1L << PLACE_ID_BITS) - 1;
+    private static final int BUCKET_BITS = 2;
+
+    private final TransitClient transitClient;
+    private final TravelMatrixEntryRepository travelMatrixEntryRepository;
+    private final PlaceRepository placeRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${route.travel-matrix.max-age:P7D}")
+    private Duration maxAge;
+
+    @Value("${route.travel-matrix.refresh-batch-size:50}")
+    private int refreshBatchSize;
+
+    private final MetricsTable table = new MetricsTable(1024);
+    private final Set<Long> dirtyKeys = ConcurrentHashMap.newKeySet();
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        List<TravelMatrixEntry> entries = travelMatrixEntryRepository.findAll();
+        for (TravelMatrixEntry e : entries) {
+            long key = key(e.getFromPlaceId(), e.getToPlaceId(), e.getTimeBucket());
+            if (key >= 0) {
+                table.put(key, e.getDistanceMeters(), e.getDurationSeconds(), e.getFare(), toEpochSecond(e.getFetchedAt()));
+            }
+        }
+        log.info("이동 지표 행렬 적재: {}건", table.size());
+    }
+
+    /**
+     * 저장된 값만 조회합니다. (외부 호출 없음)
+     */
+    public Optional<TransitMetricsDto> find(Long fromPlaceId, Long toPlaceId, TimeBucket bucket) {
+        long key = key(fromPlaceId, toPlaceId, bucket);
+        if (key < 0) {
+            return Optional.empty();
+        }
+        int[] values = table.get(key);
+        if (values == null) {
+            return Optional.empty();
+        }
+        return Optional.of(TransitMetricsDto.builder()
+                .distanceMeters(values[0])
+                .durationSeconds(values[1])
+                .fare(values[2])
+                .build());
+    }
+
+    /**
+     * 저장된 값이 있으면 반환하고, 없으면 TransitClient로 조회해 저장합니다.
+     */
+    public TransitMetricsDto getOrFetch(Place from, Place to, LocalDateTime departureTime) {
+        return getOrFetch(from.getPlaceId(), from.getLatitude(), from.getLongitude(),
+                to.getPlaceId(), to.getLatitude(), to.getLongitude(), departureTime);
+    }
+
+    /**
+     * 좌표 기준 조회. placeId가 없으면 저장 없이 TransitClient 결과만 반환합니다.
+     */
+    public TransitMetricsDto getOrFetch(Long fromPlaceId, double fromLat, double fromLng,
+                                        Long toPlaceId, double toLat, double toLng,
+                                        LocalDateTime departureTime) {
+        TimeBucket bucket = TimeBucket.of(departureTime);
+        Optional<TransitMetricsDto> cached = find(fromPlaceId, toPlaceId, bucket);
+        if (cached.isPresent()) {
+            return cached.get();
+        }
+
+        TransitMetricsDto metrics = transitClient.metrics(fromLat, fromLng, toLat, toLng, departureTime);
+        put(fromPlaceId, toPlaceId, bucket, metrics);
+        return metrics;
+    }
+
+    /**
+     * 외부에서 이미 조회한 값을 저장합니다. 추정값은 무시합니다.
+     */
+    public void put(Long fromPlaceId, Long toPlaceId, TimeBucket bucket, TransitMetricsDto metrics) {
+        long key = key(fromPlaceId, toPlaceId, bucket);
+        if (key < 0 || metrics == null || metrics.isEstimated()) {
+            return;
+        }
+        table.put(key, metrics.getDistanceMeters(), metrics.getDurationSeconds(), metrics.getFare(),
+                Instant.now().getEpochSecond());
+        dirtyKeys.add(key);
+    }
+
+    public int size() {
+        return table.size();
+    }
+
+    // 새로 채워진 값을 DB에 기록
+    @Scheduled(fixedDelayString = "${route.travel-matrix.flush-interval-ms:5000}")
+    public void flush() {
+        if (dirtyKeys.isEmpty()) {
+            return;
+        }
+        List<Long> keys = new ArrayList<>(dirtyKeys);
+        keys.forEach(dirtyKeys::remove);
+
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                for (long key : keys) {
+                    int[] values = table.get(key);
+                    if (values == null) continue;
+                    Long fromId = fromPlaceId(key);
+                    Long toId = toPlaceId(key);
+                    TimeBucket bucket = bucket(key);
+                    LocalDateTime fetchedAt = LocalDateTime.ofInstant(
+                            Instant.ofEpochSecond(table.fetchedAt(key)), ZoneId.systemDefault());
+
+                    TravelMatrixEntry entry = travelMatrixEntryRepository
+                            .findByFromPlaceIdAndToPlaceIdAndTimeBucket(fromId, toId, bucket)
+                            .orElseGet(() -> TravelMatrixEntry.builder()
+                                    .fromPlaceId(fromId)
+                                    .toPlaceId(toId)
+                                    .timeBucket(bucket)
+                                    .build());
+                    entry.setDistanceMeters(values[0]);
+                    entry.setDurationSeconds(values[1]);
+                    entry.setFare(values[2]);
+                    entry.setFetchedAt(fetchedAt);
+                    travelMatrixEntryRepository.save(entry);
+                }
+            });
+            log.debug("이동 지표 행렬 저장: {}건", keys.size());
+        } catch (Exception e) {
+            log.warn("이동 지표 행렬 저장 실패, 다음 주기에 재시도: {}", e.getMessage());
+            dirtyKeys.addAll(keys);
+        }
+    }
+
+    // 오래된 값을 조금씩 다시 조회
+    @Scheduled(fixedDelayString = "${route.travel-matrix.refresh-interval-ms:3600000}",
+            initialDelayString = "${route.travel-matrix.refresh-initial-delay-ms:600000}")
+    public void refreshStale() {
+        long threshold = Instant.now().minus(maxAge).getEpochSecond();
+        long[] staleKeys = table.keysFetchedBefore(threshold, refreshBatchSize);
+        if (staleKeys.length == 0) {
+            return;
+        }
+
+        Set<Long> placeIds = new HashSet<>();
+        for (long key : staleKeys) {
+            placeIds.add(fromPlaceId(key));
+            placeIds.add(toPlaceId(key));
+        }
+        Map<Long, Place> places = placeRepository.findAllById(placeIds).stream()
+                .collect(Collectors.toMap(Place::getPlaceId, Function.identity()));
+
+        int refreshed = 0;
+        for (long key : staleKeys) {
+            Place from = places.get(fromPlaceId(key));
+            Place to = places.get(toPlaceId(key));
+            if (from == null || to == null) continue;
+            TimeBucket bucket = bucket(key);
+            TransitMetricsDto metrics = transitClient.metrics(
+                    from.getLatitude(), from.getLongitude(),
+                    to.getLatitude(), to.getLongitude(),
+                    bucket.nextRepresentativeTime()
+            );
+            if (!metrics.isEstimated()) {
+                put(from.getPlaceId(), to.getPlaceId(), bucket, metrics);
+                refreshed++;
+            }
+        }
+        log.info("이동 지표 행렬 갱신: {}/{}건", refreshed, staleKeys.length);
+    }
+
+    // placeId가 30비트를 넘으면 저장하지 않음 (-1)
+    private static long key(Long fromPlaceId, Long toPlaceId, TimeBucket bucket) {
+        if (fromPlaceId == null || toPlaceId == null || bucket == null
+                || fromPlaceId <= 0 || toPlaceId <= 0
+                || fromPlaceId > PLACE_ID_MASK || toPlaceId > PLACE_ID_MASK) {
+            return -1;
+        }
+        return (fromPlaceId << (PLACE_ID_BITS + BUCKET_BITS)) | (toPlaceId << BUCKET_BITS) | bucket.ordinal();
+    }
+
+    private static Long fromPlaceId(long key) {
+        return key >>> (PLACE_ID_BITS + BUCKET_BITS);
+    }
+
+    private static Long toPlaceId(long key) {
+        return (key >>> BUCKET_BITS) & PLACE_ID_MASK;
+    }
+
+    private static TimeBucket bucket(long key) {
+        return TimeBucket.values()[(int) (key & ((1 << BUCKET_BITS) - 1))];
+    }
+
+    private static long toEpochSecond(LocalDateTime time) {
+        return time.atZone(ZoneId.systemDefault()).toEpochSecond();
+    }
+
+    /**
+     * long 키 → (거리, 소요시간, 요금, 조회 시각)을 병렬 원시 배열로 보관하는 open addressing 해시 테이블
+     * 키 0은 빈 칸을 의미합니다. (placeId가 1 이상이므로 실제 키는 0이 될 수 없음)
+     */
+    private static final class MetricsTable {
+        private static final double MAX_LOAD = 0.6;
+
+        private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+        private long[] keys;
+        private int[] distance;
+        private int[] duration;
+        private int[] fare;
+        private long[] fetchedAt;
+        private int size;
+
+        MetricsTable(int initialCapacity) {
+            allocate(Integer.highestOneBit(Math.max(16, initialCapacity) - 1) << 1);
+        }
+
+        int[] get(long key) {
+            lock.readLock().lock();
+            try {
+                int slot = find(key);
+                return slot < 0 ? null : new int[]{distance[slot], duration[slot], fare[slot]};
+            } finally {
+                lock.readLock().unlock();
+            }
+        }
+
+        long fetchedAt(long key) {
+            lock.readLock().lock();
+            try {
+                int slot = find(key);
+                return slot < 0 ? 0 : fetchedAt[slot];
+            } finally {
+                lock.readLock().unlock();
+            }
+        }
+
+        void put(long key, int distanceMeters, int durationSeconds, int fareWon, long fetchedAtEpochSecond) {
+            lock.writeLock().lock();
+            try {
+                if (size + 1 > keys.length * MAX_LOAD) {
+                    resize();
+                }
+                int slot = slotFor(key);
+                if (keys[slot] == 0) {
+                    keys[slot] = key;
+                    size++;
+                }
+                distance[slot] = distanceMeters;
+                duration[slot] = durationSeconds;
+                fare[slot] = fareWon;
+                fetchedAt[slot] = fetchedAtEpochSecond;
+            } finally {
+                lock.writeLock().unlock();
+            }
+        }
+
+        long[] keysFetchedBefore(long epochSecond, int limit) {
+            lock.readLock().lock();
+            try {
+                long[] result = new long[Math.min(limit, size)];
+                int count = 0;
+                for (int i = 0; i < keys.length && count < result.length; i++) {
+                    if (keys[i] != 0 && fetchedAt[i] < epochSecond) {
+                        result[count++] = keys[i];
+                    }
+                }
+                return Arrays.copyOf(result, count);
+            } finally {
+                lock.readLock().unlock();
+            }
+        }
+
+        int size() {
+            lock.readLock().lock();
+            try {
+                return size;
+            } finally {
+                lock.readLock().unlock();
+            }
+        }
+
+        private int find(long key) {
+            int slot = slotFor(key);
+            return keys[slot] == key ? slot : -1;
+        }
+
+        // key가 있는 칸 또는 넣을 빈 칸 (선형 탐사)
+        private int slotFor(long key) {
+            int mask = keys.length - 1;
+            int slot = (int) (mix(key) & mask);
+            while (keys[slot] != 0 && keys[slot] != key) {
+                slot = (slot + 1) & mask;
+            }
+            return slot;
+        }
+
+        private void resize() {
+            long[] oldKeys = keys;
+            int[] oldDistance = distance;
+            int[] oldDuration = duration;
+            int[] oldFare = fare;
+            long[] oldFetchedAt = fetchedAt;
+
+            allocate(oldKeys.length << 1);
+            for (int i = 0; i < oldKeys.length; i++) {
+                if (oldKeys[i] == 0) continue;
+                int slot = slotFor(oldKeys[i]);
+                keys[slot] = oldKeys[i];
+                distance[slot] = oldDistance[i];
+                duration[slot] = oldDuration[i];
+                fare[slot] = oldFare[i];
+                fetchedAt[slot] = oldFetchedAt[i];
+                size++;
+            }
+        }
+
+        private void allocate(int capacity) {
+            keys = new long[capacity];
+            distance = new int[capacity];
+            duration = new int[capacity];
+            fare = new int[capacity];
+            fetchedAt = new long[capacity];
+            size = 0;
+        }
+
+        private static long mix(long key) {
+            long h = key * 0x9E3779B97F4A7C15L;
+            return h ^ (h >>> 32);
+        }
+    }
+}
@@ -0,0 +1,221 @@
+package com.mey.backend.domain.route.service;
+
+import java.util.Arrays;
+
+/**
+ * 비용 행렬 기반 방문 순서(열린 경로 TSP) 계산기
+ *
+ * - 출발/도착 지점이 고정되지 않은 열린 경로의 총 비용을 최소화
+ * - EXACT_LIMIT 이하: Held-Karp 비트마스크 DP (최적해)
+ * - 그 이상: 모든 시작점에서 최근접 이웃 구성 후 2-opt / Or-opt 지역 탐색
+ * - 비대칭 행렬(소요시간 등)도 처리하며, 같은 입력에는 항상 같은 결과를 반환
+ */
+public final class TspSolver {
+
+    public static final int EXACT_LIMIT = 12;
+    private static final double EPS = 1e-9;
+    private static final int MAX_SEGMENT = 3;
+
+    private TspSolver() {
+    }
+
+    /**
+     * 총 비용이 최소가 되는 방문 순서를 계산합니다.
+     *
+     * @param cost cost[i][j] = i에서 j로 이동하는 비용
+     * @return 방문 순서 (입력 인덱스)
+     */
+    public static int[] solve(double[][] cost) {
+        int n = cost.length;
+        if (n <= 1) {
+            return identity(n);
+        }
+        if (n <= EXACT_LIMIT) {
+            return heldKarp(cost);
+        }
+
+        int[] best = null;
+        double bestCost = Double.MAX_VALUE;
+        for (int start = 0; start < n; start++) {
+            int[] path = nearestNeighbour(cost, start);
+            improve(cost, path);
+            double c = pathCost(cost, path);
+            if (c < bestCost - EPS) {
+                bestCost = c;
+                best = path;
+            }
+        }
+        return best;
+    }
+
+    public static double pathCost(double[][] cost, int[] path) {
+        double total = 0;
+        for (int i = 0; i < path.length - 1; i++) {
+            total += cost[path[i]][path[i + 1]];
+        }
+        return total;
+    }
+
+    // 시작점 자유, 끝점 자유인 열린 경로 Held-Karp
+    static int[] heldKarp(double[][] cost) {
+        int n = cost.length;
+        int full = 1 << n;
+        double[][] dp = new double[full][n];
+        int[][] parent = new int[full][n];
+        for (double[] row : dp) {
+            Arrays.fill(row, Double.MAX_VALUE);
+        }
+        for (int j = 0; j < n; j++) {
+            dp[1 << j][j] = 0;
+            parent[1 << j][j] = -1;
+        }
+
+        for (int mask = 1; mask < full; mask++) {
+            for (int last = 0; last < n; last++) {
+                double base = dp[mask][last];
+                if (base == Double.MAX_VALUE || (mask & (1 << last)) == 0) continue;
+                for (int next = 0; next < n; next++) {
+                    if ((mask & (1 << next)) != 0) continue;
+                    int nextMask = mask | (1 << next);
+                    double c = base + cost[last][next];
+                    if (c < dp[nextMask][next] - EPS) {
+                        dp[nextMask][next] = c;
+                        parent[nextMask][next] = last;
+                    }
+                }
+            }
+        }
+
+        int mask = full - 1;
+        int last = 0;
+        for (int j = 1; j < n; j++) {
+            if (dp[mask][j] < dp[mask][last] - EPS) last = j;
+        }
+
+        int[] path = new int[n];
+        for (int pos = n - 1; pos >= 0; pos--) {
+            path[pos] = last;
+            int prev = parent[mask][last];
+            mask &= ~(1 << last);
+            last = prev;
+        }
+        return path;
+    }
+
+    static int[] nearestNeighbour(double[][] cost, int start) {
+        int n = cost.length;
+        boolean[] visited = new boolean[n];
+        int[] path = new int[n];
+        path[0] = start;
+        visited[start] = true;
+        for (int pos = 1; pos < n; pos++) {
+            int from = path[pos - 1];
+            int best = -1;
+            for (int j = 0; j < n; j++) {
+                if (visited[j]) continue;
+                if (best < 0 || cost[from][j] < cost[from][best] - EPS) best = j;
+            }
+            path[pos] = best;
+            visited[best] = true;
+        }
+        return path;
+    }
+
+    // 개선이 없을 때까지 2-opt, Or-opt 반복
+    static void improve(double[][] cost, int[] path) {
+        boolean improved = true;
+        while (improved) {
+            improved = twoOpt(cost, path) | orOpt(cost, path);
+        }
+    }
+
+    // 구간 [i..j] 뒤집기
+    private static boolean twoOpt(double[][] cost, int[] path) {
+        int n = path.length;
+        boolean improved = false;
+        for (int i = 0; i < n - 1; i++) {
+            double forward = 0;
+            double reversed = 0;
+            for (int j = i + 1; j < n; j++) {
+                forward += cost[path[j - 1]][path[j]];
+                reversed += cost[path[j]][path[j - 1]];
+
+                double before = forward;
+                double after = reversed;
+                if (i > 0) {
+                    before += cost[path[i - 1]][path[i]];
+                    after += cost[path[i - 1]][path[j]];
+                }
+                if (j < n - 1) {
+                    before += cost[path[j]][path[j + 1]];
+                    after += cost[path[i]][path[j + 1]];
+                }
+                if (after < before - EPS) {
+                    reverse(path, i, j);
+                    improved = true;
+                    forward = 0;
+                    reversed = 0;
+                    for (int k = i + 1; k <= j; k++) {
+                        forward += cost[path[k - 1]][path[k]];
+                        reversed += cost[path[k]][path[k - 1]];
+                    }
+                }
+            }
+        }
+        return improved;
+    }
+
+    // 길이 1~3 구간을 다른 위치로 이동 (이동 전후 변경되는 간선만 비교)
+    private static boolean orOpt(double[][] cost, int[] path) {
+        int n = path.length;
+        boolean improved = false;
+        for (int len = 1; len <= MAX_SEGMENT && len < n; len++) {
+            for (int i = 0; i + len <= n; i++) {
+                int first = path[i];
+                int last = path[i + len - 1];
+                int prev = i > 0 ? path[i - 1] : -1;
+                int next = i + len < n ? path[i + len] : -1;
+                double removeGain = edge(cost, prev, first) + edge(cost, last, next) - edge(cost, prev, next);
+
+                int[] rest = new int[n - len];
+                System.arraycopy(path, 0, rest, 0, i);
+                System.arraycopy(path, i + len, rest, i, n - i - len);
+
+                for (int insert = 0; insert <= rest.length; insert++) {
+                    if (insert == i) continue;
+                    int a = insert > 0 ? rest[insert - 1] : -1;
+                    int b = insert < rest.length ? rest[insert] : -1;
+                    double insertCost = edge(cost, a, first) + edge(cost, last, b) - edge(cost, a, b);
+                    if (insertCost < removeGain - EPS) {
+                        int[] segment = Arrays.copyOfRange(path, i, i + len);
+                        System.arraycopy(rest, 0, path, 0, insert);
+                        System.arraycopy(segment, 0, path, insert, len);
+                        System.arraycopy(rest, insert, path, insert + len, rest.length - insert);
+                        improved = true;
+                        break;
+                    }
+                }
+            }
+        }
+        return improved;
+    }
+
+    // 경로 끝(-1)과의 간선 비용은 0
+    private static double edge(double[][] cost, int from, int to) {
+        return from < 0 || to < 0 ? 0 : cost[from][to];
+    }
+
+    private static void reverse(int[] path, int i, int j) {
+        while (i < j) {
+            int tmp = path[i];
+            path[i++] = path[j];
+            path[j--] = tmp;
+        }
+    }
+
+    private static int[] identity(int n) {
+        int[] path = new int[n];
+        for (int i = 0; i < n; i++) path[i] = i;
+        return path;
+    }
+}
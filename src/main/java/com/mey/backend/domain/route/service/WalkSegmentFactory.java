@@ -0,0 +1,65 @@
+package com.mey.backend.domain.route.service;
+
+import com.mey.backend.domain.route.dto.TransitMetricsDto;
+import com.mey.backend.domain.route.dto.TransitSegmentDto;
+import com.mey.backend.domain.route.dto.TransitStepDto;
+
+import java.util.List;
+
+/**
+ * 하버사인 기반 도보 구간 생성기 (교통 API 실패/지연 시 폴백, 근거리 구간 로컬 계산)
+ */
+public final class WalkSegmentFactory {
+
+    private static final double WALK_SPEED_MPS = 1.2; // 도보 1.2m/s
+
+    private WalkSegmentFactory() {
+    }
+
+    public static TransitSegmentDto segment(String fromName, double fromLat, double fromLng,
+                                            String toName, double toLat, double toLng) {
+        return segment(fromName, fromLat, fromLng, toName, toLat, toLng, 1.0, WALK_SPEED_MPS, "도보 이동(폴백)");
+    }
+
+    /**
+     * 직선거리에 우회 계수를 곱한 도보 구간 (estimated = true)
+     */
+    public static TransitSegmentDto segment(String fromName, double fromLat, double fromLng,
+                                            String toName, double toLat, double toLng,
+                                            double detourFactor, double walkSpeedMps, String instruction) {
+        int dist = (int) Math.round(GeoUtils.haversine(fromLat, fromLng, toLat, toLng) * detourFactor);
+        int duration = (int) Math.round(dist / walkSpeedMps);
+        return TransitSegmentDto.builder()
+                .fromName(fromName).fromLat(fromLat).fromLng(fromLng)
+                .toName(toName).toLat(toLat).toLng(toLng)
+                .distanceMeters(dist)
+                .durationSeconds(duration)
+                .fare(0)
+                .summary("도보")
+                .estimated(true)
+                .steps(List.of(
+                        TransitStepDto.builder()
+                                .mode(TransitStepDto.Mode.WALK)
+                                .instruction(instruction)
+                                .distanceMeters(dist)
+                                .durationSeconds(duration)
+                                .build()
+                ))
+                .build();
+    }
+
+    public static TransitMetricsDto metrics(double fromLat, double fromLng, double toLat, double toLng) {
+        return metrics(fromLat, fromLng, toLat, toLng, 1.0, WALK_SPEED_MPS);
+    }
+
+    public static TransitMetricsDto metrics(double fromLat, double fromLng, double toLat, double toLng,
+                                            double detourFactor, double walkSpeedMps) {
+        int dist = (int) Math.round(GeoUtils.haversine(fromLat, fromLng, toLat, toLng) * detourFactor);
+        return TransitMetricsDto.builder()
+                .distanceMeters(dist)
+                .durationSeconds((int) Math.round(dist / walkSpeedMps))
+                .fare(0)
+                .estimated(true)
+                .build();
+    }
+}
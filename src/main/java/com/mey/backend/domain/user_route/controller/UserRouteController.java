@@ -89,6 +89,24 @@ public class UserRouteController {
         return CommonResponse.onSuccess(null);
     }
 
+    @Operation(
+            summary = "유저 루트 재탐색",
+            description = "경로를 벗어났을 때 현재 위치 → 다음 장소 구간만 다시 조회하고, 남은 장소 간 구간은 이전 결과를 재사용합니다. "
+                    + "currentPlaceOrder(다음 방문 장소 순번, 0부터)를 보내면 저장된 진행 상태도 함께 갱신합니다.",
+            security = @SecurityRequirement(name = "bearerAuth")
+    )
+    @PostMapping("/{savedRouteId}/reroute")
+    public CommonResponse<UserRouteRerouteResponseDto> reroute(
+            @Parameter(hidden = true) @CurrentUser User user,
+            @PathVariable Long savedRouteId,
+            @RequestParam double latitude,
+            @RequestParam double longitude,
+            @RequestParam(required = false) Integer currentPlaceOrder) {
+        UserRouteRerouteResponseDto response =
+                userRouteService.reroute(user, savedRouteId, latitude, longitude, currentPlaceOrder);
+        return CommonResponse.onSuccess(response);
+    }
+
     @Operation(
             summary = "유저 루트 삭제",
             description = "사용자가 저장한 루트 삭제",
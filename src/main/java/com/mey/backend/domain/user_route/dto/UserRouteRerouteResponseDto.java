@@ -0,0 +1,21 @@
+package com.mey.backend.domain.user_route.dto;
+
+import com.mey.backend.domain.route.dto.TransitSegmentDto;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class UserRouteRerouteResponseDto {
+
+    private Long savedRouteId;
+    private int nextPlaceOrder;               // 다음 방문 장소 순번 (0부터)
+    private int liveLegCount;                 // 이번 요청에서 실시간 조회한 구간 수
+    private List<TransitSegmentDto> segments; // 현재 위치 → 다음 장소, 이후 남은 장소 간 구간
+}
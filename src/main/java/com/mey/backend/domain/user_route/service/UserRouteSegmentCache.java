@@ -0,0 +1,64 @@
+package com.mey.backend.domain.user_route.service;
+
+import com.mey.backend.domain.route.dto.TransitSegmentDto;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 사용자 루트별 장소 간 구간 캐시 (재탐색 시 남은 구간 재사용)
+ *
+ * - 키: 사용자 루트 ID, 값: 장소 i → i+1 구간 배열 (아직 조회하지 않은 구간은 null)
+ * - 루트의 장소 구성이 바뀌었거나 TTL이 지난 항목은 무시
+ * - 접근 순서 LRU로 최대 개수 유지
+ */
+@Component
+public class UserRouteSegmentCache {
+
+    @Value("${user-route.reroute.cache-ttl:PT6H}")
+    private Duration ttl;
+
+    @Value("${user-route.reroute.cache-max-entries:10000}")
+    private int maxEntries;
+
+    private final Map<Long, Entry> entries = new LinkedHashMap<>(256, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<Long, Entry> eldest) {
+            return size() > maxEntries;
+        }
+    };
+
+    private record Entry(long[] placeIds, TransitSegmentDto[] segments, long expiresAtMillis) {
+    }
+
+    /**
+     * 캐시된 구간 배열의 복사본, 없거나 만료/불일치면 빈 배열 (길이 = 장소 수 - 1)
+     */
+    public synchronized TransitSegmentDto[] get(Long userRouteId, List<Long> placeIds) {
+        long[] ids = toArray(placeIds);
+        Entry entry = entries.get(userRouteId);
+        if (entry == null || entry.expiresAtMillis() < System.currentTimeMillis() || !Arrays.equals(entry.placeIds(), ids)) {
+            entries.remove(userRouteId);
+            return new TransitSegmentDto[Math.max(0, ids.length - 1)];
+        }
+        return entry.segments().clone();
+    }
+
+    public synchronized void put(Long userRouteId, List<Long> placeIds, TransitSegmentDto[] segments) {
+        entries.put(userRouteId, new Entry(toArray(placeIds), segments.clone(),
+                System.currentTimeMillis() + ttl.toMillis()));
+    }
+
+    public synchronized void evict(Long userRouteId) {
+        entries.remove(userRouteId);
+    }
+
+    private static long[] toArray(List<Long> ids) {
+        return ids.stream().mapToLong(Long::longValue).toArray();
+    }
+}
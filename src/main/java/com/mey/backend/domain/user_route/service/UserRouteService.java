@@ -1,7 +1,15 @@
 package com.mey.backend.domain.user_route.service;
 
+import com.mey.backend.domain.place.entity.Place;
+import com.mey.backend.domain.route.dto.TransitSegmentDto;
 import com.mey.backend.domain.route.entity.Route;
+import com.mey.backend.domain.route.entity.RoutePlace;
+import com.mey.backend.domain.route.entity.RouteType;
+import com.mey.backend.domain.route.entity.TimeBucket;
+import com.mey.backend.domain.route.repository.RoutePlaceRepository;
 import com.mey.backend.domain.route.repository.RouteRepository;
+import com.mey.backend.domain.route.service.PopularSegmentPrecomputer;
+import com.mey.backend.domain.route.service.TransitLegFetcher;
 import com.mey.backend.domain.user.entity.User;
 import com.mey.backend.domain.user_route.dto.*;
 import com.mey.backend.domain.user_route.entity.UserRoute;
@@ -15,11 +23,15 @@ import java.sql.Date;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 @Service
 @RequiredArgsConstructor
@@ -28,6 +40,11 @@ public class UserRouteService {
 
     private final UserRouteRepository userRouteRepository;
     private final RouteRepository routeRepository;
+    private final RoutePlaceRepository routePlaceRepository;
+    private final TransitLegFetcher transitLegFetcher;
+    private final PopularSegmentPrecomputer popularSegmentPrecomputer;
+    private final UserRouteSegmentCache userRouteSegmentCache; // 재탐색 시 남은 구간 재사용
+    private final TransactionTemplate transactionTemplate;
 
     @Transactional
     public UserRouteSaveResponseDto saveUserRoute(User user, UserRouteSaveRequestDto request) {
@@ -116,6 +133,106 @@ public class UserRouteService {
                 .orElseThrow(() -> new UserRouteException(ErrorStatus.USER_ROUTE_NOT_FOUND));
 
         userRouteRepository.delete(userRoute);
+        userRouteSegmentCache.evict(savedRouteId);
+    }
+
+    /**
+     * 경로를 벗어난 사용자의 현재 위치에서 다음 장소까지 구간만 다시 조회합니다.
+     * 남은 장소 간 구간은 사용자 루트별 캐시(없으면 인기 루트 사전 계산)에서 재사용하고, 비어 있는 구간만 함께 조회합니다.
+     * 순번 갱신과 장소 조회만 짧은 트랜잭션에서 처리하고, 외부 구간 조회는 트랜잭션(DB 연결) 밖에서 수행합니다.
+     *
+     * @param currentPlaceOrder 다음 방문 장소 순번 (0부터), null이면 저장된 값 사용
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public UserRouteRerouteResponseDto reroute(User user, Long savedRouteId, double latitude, double longitude,
+                                               Integer currentPlaceOrder) {
+        RerouteTarget target = transactionTemplate.execute(status ->
+                loadRerouteTarget(user, savedRouteId, latitude, longitude, currentPlaceOrder));
+        int next = target.next();
+        List<Long> placeIds = target.placeIds();
+        List<TransitLegFetcher.Leg> stopLegs = target.stopLegs();
+        TransitSegmentDto[] stopSegments = userRouteSegmentCache.get(savedRouteId, placeIds);
+
+        // 캐시에 없는 남은 구간은 인기 루트 사전 계산에서 보충
+        if (target.popular() && hasMissing(stopSegments, next)) {
+            List<TransitSegmentDto> precomputed = popularSegmentPrecomputer.find(stopLegs, TimeBucket.of(LocalDateTime.now()));
+            for (int i = 0; i < precomputed.size(); i++) {
+                if (stopSegments[next + i] == null) stopSegments[next + i] = precomputed.get(i);
+            }
+        }
+
+        // 현재 위치 → 다음 장소 + 아직 없는 구간만 병렬 조회
+        List<TransitLegFetcher.Leg> liveLegs = new ArrayList<>();
+        List<Integer> liveIndexes = new ArrayList<>();
+        liveLegs.add(target.toNext());
+        for (int i = next; i < stopSegments.length; i++) {
+            if (stopSegments[i] == null) {
+                liveLegs.add(stopLegs.get(i - next));
+                liveIndexes.add(i);
+            }
+        }
+        List<TransitSegmentDto> fetched = transitLegFetcher.routes(liveLegs);
+        for (int k = 0; k < liveIndexes.size(); k++) {
+            TransitSegmentDto segment = fetched.get(k + 1);
+            // 폴백 구간은 캐시하지 않고 이번 응답에만 사용
+            stopSegments[liveIndexes.get(k)] = segment;
+        }
+
+        List<TransitSegmentDto> segments = new ArrayList<>(placeIds.size() - next);
+        segments.add(fetched.get(0));
+        segments.addAll(Arrays.asList(stopSegments).subList(next, stopSegments.length));
+
+        for (int i : liveIndexes) {
+            if (stopSegments[i].isEstimated()) stopSegments[i] = null;
+        }
+        userRouteSegmentCache.put(savedRouteId, placeIds, stopSegments);
+
+        return UserRouteRerouteResponseDto.builder()
+                .savedRouteId(savedRouteId)
+                .nextPlaceOrder(next)
+                .liveLegCount(liveLegs.size())
+                .segments(segments)
+                .build();
+    }
+
+    // 다음 방문 순번 갱신 후 구간 계산에 필요한 값만 추출 (엔티티를 트랜잭션 밖으로 가져가지 않음)
+    private RerouteTarget loadRerouteTarget(User user, Long savedRouteId, double latitude, double longitude,
+                                            Integer currentPlaceOrder) {
+        UserRoute userRoute = userRouteRepository.findByUserRouteIdAndUser(savedRouteId, user)
+                .orElseThrow(() -> new UserRouteException(ErrorStatus.USER_ROUTE_NOT_FOUND));
+        Route route = userRoute.getRoute();
+
+        List<Place> places = routePlaceRepository.findByRouteIdOrderByVisitOrder(route.getId()).stream()
+                .map(RoutePlace::getPlace)
+                .toList();
+        if (currentPlaceOrder != null) {
+            userRoute.setCurrentPlaceOrder(currentPlaceOrder);
+        }
+        int next = userRoute.getCurrentPlaceOrder();
+        if (next < 0 || next >= places.size()) {
+            throw new UserRouteException(ErrorStatus.BAD_REQUEST);
+        }
+
+        List<TransitLegFetcher.Leg> stopLegs = new ArrayList<>();
+        for (int i = next; i < places.size() - 1; i++) {
+            stopLegs.add(TransitLegFetcher.Leg.between(places.get(i), places.get(i + 1)));
+        }
+        return new RerouteTarget(next,
+                places.stream().map(Place::getPlaceId).toList(),
+                stopLegs,
+                TransitLegFetcher.Leg.fromLocation("현재 위치", latitude, longitude, places.get(next)),
+                route.getRouteType() == RouteType.POPULAR);
+    }
+
+    private record RerouteTarget(int next, List<Long> placeIds, List<TransitLegFetcher.Leg> stopLegs,
+                                 TransitLegFetcher.Leg toNext, boolean popular) {
+    }
+
+    private static boolean hasMissing(TransitSegmentDto[] segments, int from) {
+        for (int i = from; i < segments.length; i++) {
+            if (segments[i] == null) return true;
+        }
+        return false;
     }
 
     private UserRouteListResponseDto.SavedRouteDto convertToSavedRouteDto(UserRoute userRoute) {
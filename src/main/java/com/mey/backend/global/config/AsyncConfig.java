@@ -0,0 +1,130 @@
+package com.mey.backend.global.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.util.concurrent.ThreadPoolExecutor;
+
+@Configuration
+public class AsyncConfig {
+
+    // 방문 순서 계산 등 CPU 작업용 (기본: 코어 수)
+    @Value("${route.executor.planning.pool-size:0}")
+    private int planningPoolSize;
+
+    @Value("${route.executor.planning.queue-capacity:200}")
+    private int planningQueueCapacity;
+
+    // 다일 루트의 일자별 순서 계산용 (일자 작업이 planning 풀의 작업을 기다리므로 별도 풀)
+    @Value("${route.executor.planning-day.pool-size:8}")
+    private int planningDayPoolSize;
+
+    @Value("${route.executor.planning-day.queue-capacity:100}")
+    private int planningDayQueueCapacity;
+
+    // 외부 호출을 기다리는 planner(GPT 등)용, CPU 풀을 점유하지 않도록 분리
+    @Value("${route.executor.planning-io.pool-size:8}")
+    private int planningIoPoolSize;
+
+    @Value("${route.executor.planning-io.queue-capacity:20}")
+    private int planningIoQueueCapacity;
+
+    // 외부 교통 API 호출용 (I/O 대기 위주라 코어 수보다 크게)
+    @Value("${route.executor.transit.pool-size:16}")
+    private int transitPoolSize;
+
+    @Value("${route.executor.transit.queue-capacity:500}")
+    private int transitQueueCapacity;
+
+    // TMAP 단건 호출/헤지 요청용 (호출 측 스레드가 이 풀의 작업을 기다리므로 별도 풀)
+    @Value("${route.executor.hedge.pool-size:16}")
+    private int hedgePoolSize;
+
+    // 루트 시작 SSE 스트림 전송용 (구간 결과를 기다리며 순서대로 전송)
+    @Value("${route.executor.stream.pool-size:8}")
+    private int streamPoolSize;
+
+    @Value("${route.executor.stream.queue-capacity:100}")
+    private int streamQueueCapacity;
+
+    @Bean(name = "routePlanningExecutor")
+    public ThreadPoolTaskExecutor routePlanningExecutor() {
+        int size = planningPoolSize > 0 ? planningPoolSize : Runtime.getRuntime().availableProcessors();
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(size);
+        executor.setMaxPoolSize(size);
+        executor.setQueueCapacity(planningQueueCapacity);
+        executor.setThreadNamePrefix("route-plan-");
+        // 큐가 가득 차면 호출 스레드에서 직접 실행
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.initialize();
+        return executor;
+    }
+
+    @Bean(name = "routeDayPlanningExecutor")
+    public ThreadPoolTaskExecutor routeDayPlanningExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(planningDayPoolSize);
+        executor.setMaxPoolSize(planningDayPoolSize);
+        executor.setQueueCapacity(planningDayQueueCapacity);
+        executor.setThreadNamePrefix("route-plan-day-");
+        // 큐가 가득 차면 요청 스레드에서 직접 실행 (요청 스레드는 이 풀의 작업을 기다리지 않음)
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        executor.initialize();
+        return executor;
+    }
+
+    @Bean(name = "routePlanningIoExecutor")
+    public ThreadPoolTaskExecutor routePlanningIoExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(planningIoPoolSize);
+        executor.setMaxPoolSize(planningIoPoolSize);
+        executor.setQueueCapacity(planningIoQueueCapacity);
+        executor.setThreadNamePrefix("route-plan-io-");
+        // 포화 시 거절 → 해당 planner는 이번 경쟁에서 제외 (호출 스레드에서 외부 호출을 기다리지 않음)
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.AbortPolicy());
+        executor.initialize();
+        return executor;
+    }
+
+    @Bean(name = "transitFetchExecutor")
+    public ThreadPoolTaskExecutor transitFetchExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(transitPoolSize);
+        executor.setMaxPoolSize(transitPoolSize);
+        executor.setQueueCapacity(transitQueueCapacity);
+        executor.setThreadNamePrefix("transit-fetch-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        executor.initialize();
+        return executor;
+    }
+
+    @Bean(name = "routeStreamExecutor")
+    public ThreadPoolTaskExecutor routeStreamExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(streamPoolSize);
+        executor.setMaxPoolSize(streamPoolSize);
+        executor.setQueueCapacity(streamQueueCapacity);
+        executor.setThreadNamePrefix("route-stream-");
+        // 포화 시 요청 스레드에서 스트림 전체를 실행하지 않도록 거절 (StartRouteStreamer가 503 응답)
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.AbortPolicy());
+        executor.initialize();
+        return executor;
+    }
+
+    @Bean(name = "transitHedgeExecutor")
+    public ThreadPoolTaskExecutor transitHedgeExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(hedgePoolSize);
+        executor.setMaxPoolSize(hedgePoolSize);
+        // 대기열 없이 즉시 실행, 포화 시 거절 → 호출 측에서 헤지 없이 직접 실행
+        executor.setQueueCapacity(0);
+        executor.setThreadNamePrefix("transit-hedge-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.AbortPolicy());
+        executor.initialize();
+        return executor;
+    }
+}
@@ -0,0 +1,149 @@
+package com.mey.backend.global.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.mey.backend.domain.route.service.CachingTransitClient;
+import com.mey.backend.domain.route.service.GtfsTransitClient;
+import com.mey.backend.domain.route.service.ResilientTransitClient;
+import com.mey.backend.domain.route.service.ShortHopTransitClient;
+import com.mey.backend.domain.route.service.TmapTransitClient;
+import com.mey.backend.domain.route.service.TransitClient;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.nio.file.Path;
+import java.time.Duration;
+
+/**
+ * 서비스에서 주입받는 TransitClient 데코레이터 구성
+ *
+ * ShortHopTransitClient → CachingTransitClient → GtfsTransitClient → ResilientTransitClient → TmapTransitClient
+ *
+ * GtfsTransitClient는 route.transit.gtfs.enabled일 때만 추가되며, fallback-to-tmap이 false이면 TMAP을 전혀 호출하지 않습니다.
+ */
+@Configuration
+public class TransitClientConfig {
+
+    @Value("${route.transit.resilience.enabled:true}")
+    private boolean resilienceEnabled;
+
+    @Value("${route.transit.resilience.failure-rate-threshold:0.5}")
+    private double failureRateThreshold;
+
+    @Value("${route.transit.resilience.minimum-calls:10}")
+    private int minimumCalls;
+
+    @Value("${route.transit.resilience.window-size:50}")
+    private int windowSize;
+
+    @Value("${route.transit.resilience.open-duration:PT30S}")
+    private Duration openDuration;
+
+    @Value("${route.transit.resilience.call-timeout:PT6S}")
+    private Duration callTimeout;
+
+    @Value("${route.transit.resilience.hedge.enabled:true}")
+    private boolean hedgeEnabled;
+
+    @Value("${route.transit.resilience.hedge.initial-delay:PT1.5S}")
+    private Duration hedgeInitialDelay;
+
+    @Value("${route.transit.resilience.hedge.min-delay:PT0.3S}")
+    private Duration hedgeMinDelay;
+
+    // 0이면 무제한
+    @Value("${route.transit.resilience.quota.daily-limit:0}")
+    private long dailyQuota;
+
+    @Value("${route.transit.resilience.quota.degrade-ratio:0.8}")
+    private double quotaDegradeRatio;
+
+    @Value("${route.transit.resilience.quota.stop-ratio:0.95}")
+    private double quotaStopRatio;
+
+    @Value("${route.transit.gtfs.enabled:false}")
+    private boolean gtfsEnabled;
+
+    // stops.txt, routes.txt, trips.txt, stop_times.txt, calendar.txt가 있는 디렉터리
+    @Value("${route.transit.gtfs.feed-dir:}")
+    private String gtfsFeedDir;
+
+    @Value("${route.transit.gtfs.fallback-to-tmap:true}")
+    private boolean gtfsFallbackToTmap;
+
+    @Value("${route.transit.gtfs.max-rides:4}")
+    private int gtfsMaxRides;
+
+    @Value("${route.transit.gtfs.access-meters:800}")
+    private double gtfsAccessMeters;
+
+    @Value("${route.transit.gtfs.transfer-meters:250}")
+    private double gtfsTransferMeters;
+
+    @Value("${route.transit.gtfs.base-fare:1500}")
+    private int gtfsBaseFare;
+
+    @Value("${route.transit.cache.enabled:true}")
+    private boolean cacheEnabled;
+
+    @Value("${route.transit.cache.max-entries:5000}")
+    private int cacheMaxEntries;
+
+    @Value("${route.transit.cache.ttl:PT6H}")
+    private Duration cacheTtl;
+
+    @Value("${route.transit.cache.cell-meters:50}")
+    private double cacheCellMeters;
+
+    // 비워두면 디스크 캐시 사용 안 함
+    @Value("${route.transit.cache.disk-dir:}")
+    private String cacheDiskDir;
+
+    @Value("${route.transit.short-hop.enabled:true}")
+    private boolean shortHopEnabled;
+
+    // 이 직선거리(미터) 미만 구간은 API 호출 없이 도보로 계산
+    @Value("${route.transit.short-hop.max-meters:600}")
+    private double shortHopMaxMeters;
+
+    @Value("${route.transit.short-hop.detour-factor:1.3}")
+    private double shortHopDetourFactor;
+
+    @Value("${route.transit.short-hop.walk-speed-mps:1.2}")
+    private double shortHopWalkSpeedMps;
+
+    @Bean
+    @Primary
+    public TransitClient transitClient(TmapTransitClient tmapTransitClient,
+                                       ObjectMapper objectMapper,
+                                       MeterRegistry meterRegistry,
+                                       @Qualifier("transitHedgeExecutor") ThreadPoolTaskExecutor hedgeExecutor) {
+        TransitClient client = tmapTransitClient;
+        if (resilienceEnabled) {
+            client = new ResilientTransitClient(client, hedgeExecutor, meterRegistry,
+                    new ResilientTransitClient.Settings(failureRateThreshold, minimumCalls, windowSize, openDuration,
+                            callTimeout, hedgeEnabled, hedgeInitialDelay, hedgeMinDelay,
+                            dailyQuota, quotaDegradeRatio, quotaStopRatio));
+        }
+        if (gtfsEnabled && !gtfsFeedDir.isBlank()) {
+            GtfsTransitClient gtfs = new GtfsTransitClient(gtfsFallbackToTmap ? client : null, meterRegistry,
+                    gtfsMaxRides, gtfsAccessMeters, shortHopDetourFactor, shortHopWalkSpeedMps, gtfsBaseFare);
+            gtfs.loadAsync(Path.of(gtfsFeedDir), gtfsTransferMeters);
+            client = gtfs;
+        }
+        if (cacheEnabled) {
+            client = new CachingTransitClient(client, objectMapper, meterRegistry,
+                    cacheMaxEntries, cacheTtl, cacheCellMeters,
+                    cacheDiskDir.isBlank() ? null : Path.of(cacheDiskDir));
+        }
+        if (shortHopEnabled) {
+            client = new ShortHopTransitClient(client, meterRegistry,
+                    shortHopMaxMeters, shortHopDetourFactor, shortHopWalkSpeedMps);
+        }
+        return client;
+    }
+}
@@ -26,6 +26,7 @@ public enum ErrorStatus implements BaseStatus {
 
     // Route Error
     ROUTE_NOT_FOUND(HttpStatus.NOT_FOUND, "ROUTE_4001", "해당 루트를 찾을 수 없습니다."),
+    ROUTE_STREAM_BUSY(HttpStatus.SERVICE_UNAVAILABLE, "ROUTE_5031", "요청이 많아 경로 안내를 시작할 수 없습니다. 잠시 후 다시 시도해 주세요."),
 
     // UserRoute Error
     USER_ROUTE_NOT_FOUND(HttpStatus.NOT_FOUND, "USER_ROUTE_4001", "해당 사용자 루트를 찾을 수 없습니다."),
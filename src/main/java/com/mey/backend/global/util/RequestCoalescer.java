@@ -0,0 +1,90 @@
+package com.mey.backend.global.util;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * 동일한 요청이 동시에 여러 번 들어올 때 외부 호출을 한 번으로 합쳐주는 single-flight 실행기
+ *
+ * 같은 키로 진행 중인 호출이 있으면 새 호출을 만들지 않고 진행 중인 CompletableFuture의 결과를 공유합니다.
+ * 결과를 캐시하지는 않으며, 호출이 끝나는 즉시 키가 제거됩니다.
+ */
+@Slf4j
+@Component
+public class RequestCoalescer {
+
+    private final Map<String, CompletableFuture<Object>> inFlight = new ConcurrentHashMap<>();
+
+    /**
+     * 같은 키로 진행 중인 호출이 있으면 그 결과를 기다리고, 없으면 직접 호출합니다.
+     *
+     * @param key 요청 식별 키 ({@link #key(String...)}로 생성)
+     * @param call 실제 외부 호출
+     * @return 호출 결과 (동시 호출자 간 같은 인스턴스 공유)
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T execute(String key, Supplier<T> call) {
+        CompletableFuture<Object> created = new CompletableFuture<>();
+        CompletableFuture<Object> existing = inFlight.putIfAbsent(key, created);
+
+        if (existing != null) {
+            log.debug("진행 중인 동일 요청에 합류: {}", key);
+            try {
+                return (T) existing.join();
+            } catch (CompletionException e) {
+                if (e.getCause() instanceof RuntimeException re) {
+                    throw re;
+                }
+                if (e.getCause() instanceof Error err) {
+                    throw err;
+                }
+                throw e;
+            }
+        }
+
+        try {
+            T result = call.get();
+            created.complete(result);
+            return result;
+        } catch (Throwable t) {
+            // Error 포함 모든 실패를 전달해야 대기 중인 호출자가 join()에서 멈추지 않음
+            created.completeExceptionally(t);
+            throw t;
+        } finally {
+            inFlight.remove(key, created);
+        }
+    }
+
+    /**
+     * 요청 구성 요소들로 SHA-256 기반 키를 생성합니다.
+     */
+    public static String key(String... parts) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            for (String part : parts) {
+                digest.update((part != null ? part : "").getBytes(StandardCharsets.UTF_8));
+                digest.update((byte) 0); // 구성 요소 경계 구분
+            }
+            return HexFormat.of().formatHex(digest.digest());
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
+    /**
+     * 현재 진행 중인 요청 수 (모니터링용)
+     */
+    public int inFlightCount() {
+        return inFlight.size();
+    }
+}
@@ -0,0 +1,131 @@
+package com.mey.backend.domain.route.repository;
+
+import com.mey.backend.domain.place.entity.Place;
+import com.mey.backend.domain.region.entity.Region;
+import com.mey.backend.domain.route.dto.RouteRecommendResponseDto;
+import com.mey.backend.domain.route.entity.Route;
+import com.mey.backend.domain.route.entity.RoutePlace;
+import com.mey.backend.domain.route.entity.RouteType;
+import com.mey.backend.domain.route.entity.Theme;
+import jakarta.persistence.EntityManager;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 루트 조회 경로가 장소/루트 수와 무관하게 고정된 쿼리 수로 실행되는지 검증
+ */
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+class RouteReadQueryCountTest {
+
+    private static final int PLACE_COUNT = 6;
+    private static final int ROUTE_COUNT = 4;
+
+    @Autowired
+    private EntityManager em;
+
+    @Autowired
+    private RouteRepository routeRepository;
+
+    @Autowired
+    private RoutePlaceRepository routePlaceRepository;
+
+    private Statistics statistics;
+    private Long detailRouteId;
+    private final List<Long> routeIds = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        statistics = em.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+
+        List<Route> routes = new ArrayList<>();
+        for (int r = 0; r < ROUTE_COUNT; r++) {
+            // 루트마다 다른 지역을 두어 지역 지연 로딩이 있으면 루트 수만큼 쿼리가 늘어나도록 구성
+            Region region = new Region(null, "지역" + r, "Region" + r, "地域" + r, "地区" + r);
+            em.persist(region);
+            Route route = route(region, r);
+            em.persist(route);
+            routes.add(route);
+            routeIds.add(route.getId());
+        }
+
+        Route detailRoute = routes.get(0);
+        detailRouteId = detailRoute.getId();
+        for (int i = 0; i < PLACE_COUNT; i++) {
+            Place place = place(detailRoute.getRegion(), i);
+            em.persist(place);
+            em.persist(RoutePlace.builder()
+                    .route(detailRoute)
+                    .place(place)
+                    .visitOrder(i + 1)
+                    .recommendDurationMinutes(60)
+                    .dayNumber(1)
+                    .build());
+        }
+
+        em.flush();
+        em.clear();
+        statistics.clear();
+    }
+
+    @Test
+    void routePlacesAreLoadedWithPlacesInSingleQuery() {
+        List<RoutePlace> routePlaces = routePlaceRepository.findByRouteIdOrderByVisitOrder(detailRouteId);
+        routePlaces.forEach(rp -> rp.getPlace().getNameKo());
+
+        assertThat(routePlaces).hasSize(PLACE_COUNT);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+
+    @Test
+    void recommendDtosAndThemesAreLoadedInTwoQueries() {
+        List<RouteRecommendResponseDto> dtos = routeRepository.findRecommendDtosByIdIn(routeIds);
+        List<RouteRepository.RouteThemes> themes = routeRepository.findThemesByIdIn(routeIds);
+
+        assertThat(dtos).hasSize(ROUTE_COUNT);
+        assertThat(dtos).allSatisfy(dto -> assertThat(dto.getRegionNameKo()).isNotNull());
+        assertThat(themes).hasSize(ROUTE_COUNT);
+        assertThat(themes).allSatisfy(t -> assertThat(t.getThemes()).containsExactly(Theme.values()[0]));
+        // 루트 수와 무관하게 DTO 1번 + 테마 1번
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+    }
+
+    private Route route(Region region, int index) {
+        return Route.builder()
+                .region(region)
+                .titleKo("루트" + index)
+                .titleEn("Route" + index)
+                .descriptionKo("설명")
+                .descriptionEn("description")
+                .imageUrl("/static/images/route-default.png")
+                .totalDurationMinutes(120)
+                .totalDistance(3.0)
+                .totalCost(10000)
+                .themes(List.of(Theme.values()[0]))
+                .routeType(RouteType.POPULAR)
+                .build();
+    }
+
+    private Place place(Region region, int index) {
+        return Place.builder()
+                .region(region)
+                .nameKo("장소" + index).nameEn("Place" + index).nameJp("場所" + index).nameCh("地点" + index)
+                .descriptionKo("설명").descriptionEn("description").descriptionJp("説明").descriptionCh("说明")
+                .latitude(37.5 + index * 0.01)
+                .longitude(127.0 + index * 0.01)
+                .imageUrl("https://example.com/" + index + ".jpg")
+                .addressKo("서울").addressEn("Seoul").addressJp("ソウル").addressCh("首尔")
+                .openingHours(Map.of("monday", "09:00-18:00"))
+                .themes(List.of("K-POP"))
+                .build();
+    }
+}
@@ -0,0 +1,146 @@
+package com.mey.backend.domain.route.service;
+
+import com.mey.backend.domain.route.dto.TransitMetricsDto;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * src/test/resources/gtfs/synthetic 피드로 GTFS 적재와 RAPTOR 탐색을 검증
+ *
+ * 101번 버스(평일) A → M(시각 없음) → B → C, 9호선(평일) C2 → D, Weekend 버스(주말) E → F
+ * C와 C2는 약 110m 떨어져 있어 도보 환승으로 연결
+ */
+class GtfsRaptorRouterTest {
+
+    private static final double TRANSFER_METERS = 250;
+    private static final double DETOUR = 1.3;
+    private static final double WALK_SPEED = 1.2;
+    private static final RaptorRouter.Params PARAMS = new RaptorRouter.Params(4, 300, DETOUR, WALK_SPEED);
+
+    private static final int MONDAY = 20261019;
+    private static final int MONDAY_BIT = 1;
+    private static final int SATURDAY = 20261024;
+    private static final int SATURDAY_BIT = 1 << 5;
+
+    private static final double[] A = {37.5000, 127.0000};
+    private static final double[] M = {37.5000, 127.0100};
+    private static final double[] D = {37.5010, 127.0700};
+    private static final double[] E = {37.5200, 127.0000};
+    private static final double[] F = {37.5200, 127.0500};
+
+    private static Path feed;
+    private static GtfsTimetable timetable;
+    private static RaptorRouter router;
+
+    @BeforeAll
+    static void load() throws Exception {
+        feed = Path.of(GtfsRaptorRouterTest.class.getResource("/gtfs/synthetic").toURI());
+        timetable = GtfsTimetable.load(feed, TRANSFER_METERS, DETOUR, WALK_SPEED);
+        router = new RaptorRouter(timetable);
+    }
+
+    @Test
+    void transfersOnFootBetweenNearbyStops() {
+        RaptorRouter.Journey journey = router.search(A[0], A[1], D[0], D[1], time(7, 58), MONDAY, MONDAY_BIT, PARAMS);
+
+        assertThat(journey).isNotNull();
+        assertThat(journey.rides()).isEqualTo(2);
+        assertThat(journey.arrival()).isEqualTo(time(8, 35));
+
+        // 접근 도보 → 101번 → C에서 C2로 도보 환승 → 9호선 → 도착 도보
+        assertThat(journey.legs()).hasSize(5);
+        RaptorRouter.Leg bus = journey.legs().get(1);
+        RaptorRouter.Leg transfer = journey.legs().get(2);
+        RaptorRouter.Leg subway = journey.legs().get(3);
+        assertThat(timetable.routeName[timetable.patternRoute[bus.pattern()]]).isEqualTo("101");
+        assertThat(transfer.isWalk()).isTrue();
+        assertThat(timetable.stopName[transfer.fromStop()]).isEqualTo("Charlie");
+        assertThat(timetable.stopName[transfer.toStop()]).isEqualTo("Charlie Station");
+        assertThat(timetable.routeName[timetable.patternRoute[subway.pattern()]]).isEqualTo("Line 9");
+        assertThat(subway.departure()).isEqualTo(time(8, 25));
+    }
+
+    @Test
+    void waitsForNextTripAfterMissingConnection() {
+        // 08:30 버스는 C에 08:50 도착 → 08:25 열차를 놓치고 08:55 열차 탑승
+        RaptorRouter.Journey journey = router.search(A[0], A[1], D[0], D[1], time(8, 1), MONDAY, MONDAY_BIT, PARAMS);
+
+        assertThat(journey).isNotNull();
+        assertThat(journey.arrival()).isEqualTo(time(9, 5));
+    }
+
+    @Test
+    void skipsTripsWhoseServiceDoesNotRunThatDay() {
+        assertThat(router.search(E[0], E[1], F[0], F[1], time(8, 0), MONDAY, MONDAY_BIT, PARAMS)).isNull();
+
+        RaptorRouter.Journey weekend = router.search(E[0], E[1], F[0], F[1], time(8, 0), SATURDAY, SATURDAY_BIT, PARAMS);
+        assertThat(weekend).isNotNull();
+        assertThat(weekend.arrival()).isEqualTo(time(8, 20));
+
+        // 평일 노선은 주말에 운행하지 않음
+        assertThat(router.search(A[0], A[1], D[0], D[1], time(7, 58), SATURDAY, SATURDAY_BIT, PARAMS)).isNull();
+    }
+
+    @Test
+    void interpolatesMissingStopTimes() {
+        RaptorRouter.Journey journey = router.search(M[0], M[1], D[0], D[1], time(8, 0), MONDAY, MONDAY_BIT, PARAMS);
+
+        assertThat(journey).isNotNull();
+        RaptorRouter.Leg bus = journey.legs().get(1);
+        assertThat(timetable.stopName[bus.fromStop()]).isEqualTo("Mid");
+        // A 08:00 출발, B 08:10 도착 사이의 중간 정류장 → 08:05
+        assertThat(bus.departure()).isEqualTo(time(8, 5));
+        assertThat(journey.arrival()).isEqualTo(time(8, 35));
+    }
+
+    @Test
+    void sortsStopTimesBySequenceAndTripsByDeparture() {
+        int pattern = timetable.stopPatterns[timetable.stopPatternOffset[stop("Alpha")]];
+
+        assertThat(timetable.tripCount(pattern)).isEqualTo(2);
+        assertThat(timetable.departure(pattern, 0, 0)).isEqualTo(time(8, 0));
+        assertThat(timetable.departure(pattern, 1, 0)).isEqualTo(time(8, 30));
+        assertThat(timetable.arrival(pattern, 1, 1)).isEqualTo(time(8, 35));
+        assertThat(timetable.arrival(pattern, 1, 3)).isEqualTo(time(8, 50));
+    }
+
+    @Test
+    void returnsWalkWhenWalkingIsFaster() throws InterruptedException {
+        GtfsTransitClient client = new GtfsTransitClient(null, new SimpleMeterRegistry(),
+                4, 300, DETOUR, WALK_SPEED, 1500);
+        client.loadAsync(feed, TRANSFER_METERS);
+        for (int i = 0; i < 100 && !client.isReady(); i++) {
+            Thread.sleep(50);
+        }
+        assertThat(client.isReady()).isTrue();
+
+        // 07:59 출발: 08:05 도착(6분)이 도보 약 16분보다 빠름
+        TransitMetricsDto byBus = client.metrics(A[0], A[1], M[0], M[1], LocalDateTime.of(2026, 10, 19, 7, 59));
+        assertThat(byBus.isEstimated()).isFalse();
+        assertThat(byBus.getDurationSeconds()).isEqualTo(6 * 60);
+        assertThat(byBus.getFare()).isEqualTo(1500);
+
+        // 08:01 출발: 다음 버스는 08:35 도착(34분) → 도보가 더 빠름
+        TransitMetricsDto onFoot = client.metrics(A[0], A[1], M[0], M[1], LocalDateTime.of(2026, 10, 19, 8, 1));
+        assertThat(onFoot.isEstimated()).isTrue();
+        assertThat(onFoot.getFare()).isZero();
+        assertThat(onFoot.getDurationSeconds()).isLessThan(34 * 60);
+    }
+
+    private static int time(int hour, int minute) {
+        return hour * 3600 + minute * 60;
+    }
+
+    private static int stop(String name) {
+        for (int s = 0; s < timetable.stopCount; s++) {
+            if (name.equals(timetable.stopName[s])) return s;
+        }
+        throw new IllegalArgumentException(name);
+    }
+}